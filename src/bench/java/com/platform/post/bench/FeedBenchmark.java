@@ -0,0 +1,216 @@
+package com.platform.post.bench;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Feed read latency against a migrated database, comparing the ways getFeedPosts has read a page:
+ * <ul>
+ *   <li>full-scan: every post by every followed author, sorted, then sliced, as it used to</li>
+ *   <li>keyset: one page of post on (created_at, id) after a cursor</li>
+ *   <li>timeline: one page of the reader's home_timeline after a cursor, as it does now</li>
+ * </ul>
+ * A synthetic reader follows {@code --authors} authors with {@code --posts} posts each. Seeded
+ * rows use negative user ids and are deleted afterwards. Each path reads the first
+ * {@code --pages} pages, following its own cursor or offset, and is timed per page.
+ * <p>
+ * Run with {@code gradle feedBenchmark --args="--jdbc-url jdbc:postgresql://localhost/db --authors 200"}.
+ * Options: --jdbc-url URL, --jdbc-user USER, --jdbc-password PASSWORD, --authors N, --posts N (per author),
+ * --size N (page size), --pages N, --rounds N
+ */
+public class FeedBenchmark {
+
+    private static final long READER_ID = -1;
+    private static final long FIRST_AUTHOR_ID = -1000;
+
+    private static final RowMapper<FeedRow> FEED_ROW = (rs, rowNum) ->
+            new FeedRow(rs.getLong("id"), rs.getTimestamp("created_at").toLocalDateTime());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final List<Long> authorIds = new ArrayList<>();
+    private final String authorList;
+    private final int size;
+
+    private FeedBenchmark(JdbcTemplate jdbcTemplate, int authors, int size) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.size = size;
+        for (int i = 0; i < authors; i++) {
+            authorIds.add(FIRST_AUTHOR_ID - i);
+        }
+        this.authorList = authorIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> options = parseOptions(args);
+        if (!options.containsKey("jdbc-url")) {
+            System.out.println("The feed benchmark reads Postgres; pass --jdbc-url of a migrated database");
+            return;
+        }
+        int authors = Integer.parseInt(options.getOrDefault("authors", "200"));
+        int posts = Integer.parseInt(options.getOrDefault("posts", "50"));
+        int size = Integer.parseInt(options.getOrDefault("size", "20"));
+        int pages = Integer.parseInt(options.getOrDefault("pages", "5"));
+        int rounds = Integer.parseInt(options.getOrDefault("rounds", "20"));
+
+        try (HikariDataSource dataSource = new HikariDataSource()) {
+            dataSource.setJdbcUrl(options.get("jdbc-url"));
+            dataSource.setUsername(options.get("jdbc-user"));
+            dataSource.setPassword(options.get("jdbc-password"));
+            dataSource.addDataSourceProperty("reWriteBatchedInserts", "true");
+
+            FeedBenchmark benchmark = new FeedBenchmark(new JdbcTemplate(dataSource), authors, size);
+            try {
+                benchmark.seed(posts);
+                System.out.printf("Reader follows %d authors with %d posts each; %d pages of %d, %d rounds%n",
+                        authors, posts, pages, size, rounds);
+                System.out.printf("%-10s %8s %10s %10s %12s%n", "path", "page", "p50 ms", "p95 ms", "rows read");
+                for (String path : List.of("full-scan", "keyset", "timeline")) {
+                    benchmark.run(path, pages, Math.max(rounds / 4, 1)); // Warm-up
+                    benchmark.run(path, pages, rounds).print(path);
+                }
+            } finally {
+                benchmark.cleanUp();
+            }
+        }
+    }
+
+    private void seed(int postsPerAuthor) {
+        cleanUp();
+        LocalDateTime start = LocalDateTime.now().minusDays(30);
+        List<Object[]> connections = new ArrayList<>();
+        List<Object[]> posts = new ArrayList<>();
+        for (int a = 0; a < authorIds.size(); a++) {
+            connections.add(new Object[] {authorIds.get(a), READER_ID});
+            for (int p = 0; p < postsPerAuthor; p++) {
+                // Interleave authors in time as a real feed would
+                LocalDateTime createdAt = start.plusSeconds((long) p * authorIds.size() * 7 + a * 7L);
+                posts.add(new Object[] {authorIds.get(a), "author" + a, "Author " + a, "https://img.invalid/" + a + "/" + p,
+                        "Post " + p + " by author " + a, Timestamp.valueOf(createdAt), Timestamp.valueOf(createdAt)});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO user_connection (user_id, follower_id, is_following) VALUES (?, ?, true)", connections);
+        jdbcTemplate.batchUpdate("INSERT INTO post (user_id, user_name, user_full_name, image_url, caption, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)", posts);
+        jdbcTemplate.update("INSERT INTO home_timeline (user_id, post_id, author_id, post_created_at) " +
+                "SELECT ?, id, user_id, created_at FROM post WHERE user_id IN (" + authorList + ") " +
+                "ORDER BY created_at DESC, id DESC LIMIT 500", READER_ID);
+        jdbcTemplate.execute("ANALYZE post");
+        jdbcTemplate.execute("ANALYZE home_timeline");
+    }
+
+    private Timings run(String path, int pages, int rounds) {
+        Timings timings = new Timings(pages);
+        for (int round = 0; round < rounds; round++) {
+            FeedRow cursor = null;
+            for (int page = 0; page < pages; page++) {
+                long started = System.nanoTime();
+                List<FeedRow> rows = switch (path) {
+                    case "full-scan" -> fullScan();
+                    case "keyset" -> keyset(cursor);
+                    default -> timeline(cursor);
+                };
+                timings.add(page, System.nanoTime() - started, rows.size());
+                List<FeedRow> pageRows = path.equals("full-scan") ? rows.subList(Math.min(page * size, rows.size()),
+                        Math.min(page * size + size, rows.size())) : rows;
+                if (pageRows.isEmpty()) {
+                    break;
+                }
+                cursor = pageRows.get(pageRows.size() - 1);
+            }
+        }
+        return timings;
+    }
+
+    /**
+     * Loads every followed post; the caller slices out the page
+     */
+    private List<FeedRow> fullScan() {
+        return jdbcTemplate.query("SELECT * FROM post WHERE user_id IN (" + authorList + ") ORDER BY created_at DESC",
+                FEED_ROW);
+    }
+
+    private List<FeedRow> keyset(FeedRow after) {
+        String sql = "SELECT * FROM post WHERE user_id IN (" + authorList + ") " +
+                (after != null ? "AND (created_at < ? OR (created_at = ? AND id < ?)) " : "") +
+                "ORDER BY created_at DESC, id DESC LIMIT ?";
+        List<FeedRow> rows = after == null
+                ? jdbcTemplate.query(sql, FEED_ROW, size + 1)
+                : jdbcTemplate.query(sql, FEED_ROW, Timestamp.valueOf(after.createdAt()),
+                        Timestamp.valueOf(after.createdAt()), after.id(), size + 1);
+        return rows.stream().limit(size).toList();
+    }
+
+    private List<FeedRow> timeline(FeedRow after) {
+        String sql = "SELECT p.* FROM home_timeline t JOIN post p ON p.id = t.post_id WHERE t.user_id = ? " +
+                (after != null ? "AND (t.post_created_at < ? OR (t.post_created_at = ? AND t.post_id < ?)) " : "") +
+                "ORDER BY t.post_created_at DESC, t.post_id DESC LIMIT ?";
+        List<FeedRow> rows = after == null
+                ? jdbcTemplate.query(sql, FEED_ROW, READER_ID, size + 1)
+                : jdbcTemplate.query(sql, FEED_ROW, READER_ID, Timestamp.valueOf(after.createdAt()),
+                        Timestamp.valueOf(after.createdAt()), after.id(), size + 1);
+        return rows.stream().limit(size).toList();
+    }
+
+    private void cleanUp() {
+        jdbcTemplate.update("DELETE FROM home_timeline WHERE user_id = ?", READER_ID);
+        jdbcTemplate.update("DELETE FROM user_connection WHERE follower_id = ?", READER_ID);
+        jdbcTemplate.update("DELETE FROM post WHERE user_id IN (" + authorList + ")");
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+
+    private record FeedRow(long id, LocalDateTime createdAt) {
+    }
+
+    private static class Timings {
+        private final List<List<Long>> nanosByPage = new ArrayList<>();
+        private final long[] rowsByPage;
+
+        private Timings(int pages) {
+            for (int page = 0; page < pages; page++) {
+                nanosByPage.add(new ArrayList<>());
+            }
+            rowsByPage = new long[pages];
+        }
+
+        private void add(int page, long nanos, int rows) {
+            nanosByPage.get(page).add(nanos);
+            rowsByPage[page] = rows;
+        }
+
+        private void print(String path) {
+            for (int page = 0; page < nanosByPage.size(); page++) {
+                List<Long> sorted = nanosByPage.get(page).stream().sorted().toList();
+                if (sorted.isEmpty()) {
+                    continue;
+                }
+                System.out.printf("%-10s %8d %10.2f %10.2f %12d%n", path, page + 1, percentile(sorted, 0.50),
+                        percentile(sorted, 0.95), rowsByPage[page]);
+            }
+        }
+
+        private static double percentile(List<Long> sorted, double percentile) {
+            int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+            return sorted.get(Math.max(index, 0)) / 1e6;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.platform.post.bench;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.platform.post.repository.PostCounterRepository;
+import com.platform.post.service.PostCounterBuffer;
+
+/**
+ * Throughput and correctness of like counting on a few hot posts, without a database.
+ * Every strategy gets the same threads hammering the same posts with likes and the odd
+ * unlike; afterwards its totals are checked against the changes the threads made.
+ * <ul>
+ *   <li>racy: load, add, store, as PostServiceImpl used to do, and loses updates</li>
+ *   <li>locked: the same under a per-post lock, like a row lock held by the transaction</li>
+ *   <li>atomic: one AtomicLong per post, a single CAS target that every thread contends on</li>
+ *   <li>buffered: PostCounterBuffer, flushed concurrently into a fake repository</li>
+ * </ul>
+ * Run with {@code gradle counterBenchmark --args="--threads 16 --posts 1"}. Options:
+ * --threads N, --posts N (hot posts), --seconds N (per strategy), --flush-ms N
+ */
+public class PostCounterBenchmark {
+    
+    private interface Strategy {
+        void add(Long postId, long delta);
+        
+        Map<Long, Long> totals() throws Exception;
+    }
+    
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int threads = Integer.parseInt(options.getOrDefault("threads", String.valueOf(Runtime.getRuntime().availableProcessors())));
+        int posts = Integer.parseInt(options.getOrDefault("posts", "1"));
+        long millis = Long.parseLong(options.getOrDefault("seconds", "3")) * 1000;
+        long flushMillis = Long.parseLong(options.getOrDefault("flush-ms", "100"));
+        
+        System.out.printf("%d threads on %d hot posts, %d ms per strategy%n", threads, posts, millis);
+        System.out.printf("%-10s %14s %14s %14s%n", "strategy", "ops/s", "lost updates", "db writes");
+        for (String name : List.of("racy", "locked", "atomic", "buffered")) {
+            run(name, threads, posts, millis / 3, flushMillis); // Warm-up
+            run(name, threads, posts, millis, flushMillis).print();
+        }
+    }
+    
+    private static Result run(String name, int threads, int posts, long millis, long flushMillis) throws Exception {
+        AtomicLong dbWrites = new AtomicLong();
+        Strategy strategy = switch (name) {
+            case "racy" -> racy();
+            case "locked" -> locked();
+            case "atomic" -> atomic();
+            default -> buffered(dbWrites, flushMillis);
+        };
+        
+        LongAdder operations = new LongAdder();
+        Map<Long, LongAdder> expected = new ConcurrentHashMap<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        long deadline = System.nanoTime() + millis * 1_000_000;
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                Map<Long, Long> mine = new HashMap<>();
+                await(start);
+                long done = 0;
+                while ((done & 1023) != 0 || System.nanoTime() < deadline) {
+                    Long postId = (long) random.nextInt(posts);
+                    long delta = random.nextInt(10) == 0 ? -1 : 1;
+                    strategy.add(postId, delta);
+                    mine.merge(postId, delta, Long::sum);
+                    done++;
+                }
+                operations.add(done);
+                mine.forEach((postId, delta) -> expected.computeIfAbsent(postId, id -> new LongAdder()).add(delta));
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        
+        long started = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - started;
+        
+        Map<Long, Long> totals = strategy.totals();
+        long lost = 0;
+        for (Map.Entry<Long, LongAdder> entry : expected.entrySet()) {
+            lost += Math.abs(entry.getValue().sum() - totals.getOrDefault(entry.getKey(), 0L));
+        }
+        return new Result(name, operations.sum() * 1e9 / elapsed, lost, "buffered".equals(name) ? dbWrites.get() : operations.sum());
+    }
+    
+    private static Strategy racy() {
+        Map<Long, long[]> counts = new ConcurrentHashMap<>();
+        return new Strategy() {
+            @Override
+            public void add(Long postId, long delta) {
+                long[] count = counts.computeIfAbsent(postId, id -> new long[1]);
+                long current = count[0];
+                Thread.onSpinWait(); // Stands in for the time between reading and saving the entity
+                count[0] = current + delta;
+            }
+            
+            @Override
+            public Map<Long, Long> totals() {
+                Map<Long, Long> totals = new HashMap<>();
+                counts.forEach((postId, count) -> totals.put(postId, count[0]));
+                return totals;
+            }
+        };
+    }
+    
+    private static Strategy locked() {
+        Map<Long, long[]> counts = new ConcurrentHashMap<>();
+        return new Strategy() {
+            @Override
+            public void add(Long postId, long delta) {
+                long[] count = counts.computeIfAbsent(postId, id -> new long[1]);
+                synchronized (count) {
+                    long current = count[0];
+                    Thread.onSpinWait();
+                    count[0] = current + delta;
+                }
+            }
+            
+            @Override
+            public Map<Long, Long> totals() {
+                Map<Long, Long> totals = new HashMap<>();
+                counts.forEach((postId, count) -> {
+                    synchronized (count) {
+                        totals.put(postId, count[0]);
+                    }
+                });
+                return totals;
+            }
+        };
+    }
+    
+    private static Strategy atomic() {
+        Map<Long, AtomicLong> counts = new ConcurrentHashMap<>();
+        return new Strategy() {
+            @Override
+            public void add(Long postId, long delta) {
+                counts.computeIfAbsent(postId, id -> new AtomicLong()).addAndGet(delta);
+            }
+            
+            @Override
+            public Map<Long, Long> totals() {
+                Map<Long, Long> totals = new HashMap<>();
+                counts.forEach((postId, count) -> totals.put(postId, count.get()));
+                return totals;
+            }
+        };
+    }
+    
+    private static Strategy buffered(AtomicLong dbWrites, long flushMillis) {
+        Map<Long, Long> database = new ConcurrentHashMap<>();
+        PostCounterRepository repository = new PostCounterRepository(null) {
+            @Override
+            public void addToCounter(String column, Map<Long, Long> deltasByPostId) {
+                deltasByPostId.forEach((postId, delta) -> database.merge(postId, delta, Long::sum));
+                dbWrites.addAndGet(deltasByPostId.size());
+            }
+        };
+        PostCounterBuffer buffer = new PostCounterBuffer(repository);
+        
+        Thread flusher = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                buffer.flush();
+                try {
+                    Thread.sleep(flushMillis);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        flusher.setDaemon(true);
+        flusher.start();
+        
+        return new Strategy() {
+            @Override
+            public void add(Long postId, long delta) {
+                buffer.add(PostCounterBuffer.Counter.LIKES, postId, delta);
+            }
+            
+            @Override
+            public Map<Long, Long> totals() throws Exception {
+                flusher.interrupt();
+                flusher.join();
+                buffer.flushOnShutdown();
+                return database;
+            }
+        };
+    }
+    
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+    
+    private record Result(String name, double opsPerSecond, long lostUpdates, long dbWrites) {
+        private void print() {
+            System.out.printf("%-10s %14.0f %14d %14d%n", name, opsPerSecond, lostUpdates, dbWrites);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.platform.scrapper.bench;
+
+import com.platform.scrapper.extract.CardExtractor;
+import com.platform.scrapper.extract.PublishDateNormalizer;
+import com.platform.scrapper.extract.SelectorPlan;
+import com.platform.scrapper.extract.SiteVariant;
+import com.platform.scrapper.fetch.replay.PageSnapshot;
+import com.platform.scrapper.fetch.replay.PageSnapshotStore;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Card extraction cost over listing pages, {@link CardExtractor} with compiled
+ * {@link SelectorPlan}s against the per-card selectFirst calls BlogScraper made before them:
+ * <ul>
+ *   <li>legacy: every field selector string parsed and matched with its own walk of the card,
+ *   plus a select("span, div, time") pass per fallback</li>
+ *   <li>plan: CardExtractor, one walk per card with evaluators parsed once</li>
+ * </ul>
+ * Pages are parsed once up front, so only extraction is timed; ScrapeBenchmark covers the whole
+ * fetch to persist path. Pages come from recordings made with blog.scraper.snapshots.mode=record,
+ * or are generated in Medium and generic layouts when there are none. Both extractors must find
+ * the same cards; mismatches are reported.
+ * <p>
+ * Run with {@code gradle extractionBenchmark --args="--seconds 3"}. Options: --snapshots DIR, --seconds N
+ */
+public class ExtractionBenchmark {
+
+    private static final int SYNTHETIC_PAGES = 8;
+    private static final int SYNTHETIC_POSTS_PER_PAGE = 20;
+    private static final Pattern MINUTES_PATTERN = Pattern.compile("\\d+\\s*min");
+
+    public static void main(String[] args) {
+        Map<String, String> options = parseOptions(args);
+        long millis = Long.parseLong(options.getOrDefault("seconds", "3")) * 1000;
+        PrintStream report = System.out;
+
+        List<Page> pages = loadPages(options.getOrDefault("snapshots", "scrape-snapshots"), report);
+        int mismatches = 0;
+        int cards = 0;
+        for (Page page : pages) {
+            List<CardExtractor.Card> legacy = legacyExtract(page.document(), page.plan());
+            List<CardExtractor.Card> planned = CardExtractor.extract(page.document(), page.plan(), Locale.ENGLISH).getCards();
+            cards += planned.size();
+            mismatches += legacy.equals(planned) ? 0 : 1;
+        }
+        report.printf("%d pages, %d cards, %d pages where the extractors disagree, %d ms per case%n",
+                pages.size(), cards, mismatches, millis);
+
+        report.printf("%-8s %14s %14s %14s%n", "path", "us/page", "ns/card", "alloc KB/page");
+        for (String path : List.of("legacy", "plan")) {
+            measure(path, pages, millis / 3); // Warm-up
+            measure(path, pages, millis).print(report);
+        }
+    }
+
+    private static Result measure(String path, List<Page> pages, long millis) {
+        boolean legacy = path.equals("legacy");
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        long operations = 0;
+        long cards = 0;
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long deadline = System.nanoTime() + millis * 1_000_000;
+        long started = System.nanoTime();
+        while (System.nanoTime() < deadline) {
+            for (Page page : pages) {
+                cards += legacy ? legacyExtract(page.document(), page.plan()).size()
+                        : CardExtractor.extract(page.document(), page.plan(), Locale.ENGLISH).getCards().size();
+            }
+            operations += pages.size();
+        }
+        long elapsed = System.nanoTime() - started;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        return new Result(path, elapsed, operations, cards, allocated);
+    }
+
+    // The extraction BlogScraper ran per card before CardExtractor, over the same selector strings
+    private static List<CardExtractor.Card> legacyExtract(Document doc, SelectorPlan plan) {
+        List<CardExtractor.Card> cards = new ArrayList<>();
+        for (String selector : plan.getContainerSelectors()) {
+            Elements containers = doc.select(selector);
+            if (containers.isEmpty()) {
+                continue;
+            }
+            for (Element container : containers) {
+                CardExtractor.Card card = legacyCard(container, plan);
+                if (!card.getTitle().isEmpty()) {
+                    cards.add(card);
+                }
+            }
+            break;
+        }
+        return cards;
+    }
+
+    private static CardExtractor.Card legacyCard(Element element, SelectorPlan plan) {
+        Element link = selectFirst(element, plan.getLinkSelector());
+
+        String publishDate = "";
+        Element date = selectFirst(element, plan.getDateSelector());
+        if (date != null) {
+            publishDate = date.attr("datetime");
+            if (publishDate.isEmpty()) {
+                publishDate = date.text().trim();
+            }
+        } else if (plan.isScanForDate()) {
+            for (Element candidate : element.select("span, div, time")) {
+                String text = candidate.ownText().trim();
+                if (!text.isEmpty() && PublishDateNormalizer.looksLikeDate(text, Locale.ENGLISH)) {
+                    publishDate = text;
+                    break;
+                }
+            }
+        }
+
+        String readTime = "";
+        Element readTimeElement = selectFirst(element, plan.getReadTimeSelector());
+        if (readTimeElement != null) {
+            readTime = readTimeElement.text().trim();
+        } else if (plan.isScanForReadTime()) {
+            for (Element candidate : element.select("span, div, time")) {
+                String text = candidate.ownText().trim();
+                String lower = text.toLowerCase();
+                if (!text.isEmpty() && ((lower.contains("min") && lower.contains("read")) || MINUTES_PATTERN.matcher(lower).find())) {
+                    readTime = text;
+                    break;
+                }
+            }
+        }
+
+        return CardExtractor.Card.builder()
+                .title(text(selectFirst(element, plan.getTitleSelector())))
+                .href(link != null ? link.attr("href") : "")
+                .author(text(selectFirst(element, plan.getAuthorSelector())))
+                .publishDate(publishDate)
+                .readTime(readTime)
+                .excerpt(text(selectFirst(element, plan.getExcerptSelector())))
+                .build();
+    }
+
+    private static Element selectFirst(Element element, String selector) {
+        return selector == null || selector.isBlank() ? null : element.selectFirst(selector);
+    }
+
+    private static String text(Element element) {
+        return element != null ? element.text().trim() : "";
+    }
+
+    private static List<Page> loadPages(String snapshotDir, PrintStream report) {
+        List<Page> pages = new ArrayList<>();
+        for (PageSnapshot snapshot : new PageSnapshotStore(Path.of(snapshotDir), PageSnapshotStore.Mode.REPLAY).loadAll()) {
+            if (snapshot.getHtml() == null || snapshot.getUrl() == null || snapshot.getUrl().endsWith("/robots.txt")) {
+                continue;
+            }
+            SiteVariant variant = SiteVariant.guessFor(snapshot.getUrl());
+            pages.add(new Page(Jsoup.parse(snapshot.getHtml(), snapshot.getUrl()), SelectorPlan.defaultFor(variant)));
+        }
+        if (!pages.isEmpty()) {
+            report.println("Extracting from " + pages.size() + " recorded pages");
+            return pages;
+        }
+
+        report.println("No recorded pages found; using synthetic pages");
+        for (int page = 0; page < SYNTHETIC_PAGES; page++) {
+            boolean medium = page % 2 == 0;
+            String url = medium ? "https://medium.com/tag/page-" + page : "https://blog-" + page + ".bench.invalid/";
+            pages.add(new Page(Jsoup.parse(syntheticHtml(page, medium), url),
+                    SelectorPlan.defaultFor(medium ? SiteVariant.MEDIUM : SiteVariant.GENERIC)));
+        }
+        return pages;
+    }
+
+    /**
+     * A listing page; Medium-style cards carry no date or read-time markup, so the fallback
+     * scans run as they do on real Medium listings
+     */
+    private static String syntheticHtml(int page, boolean medium) {
+        StringBuilder html = new StringBuilder("<html><head><title>Blog</title></head><body>")
+                .append("<nav><a href=\"/\">Home</a><a href=\"/about\">About</a><span>Sign up now</span></nav><main>");
+        for (int post = 0; post < SYNTHETIC_POSTS_PER_PAGE; post++) {
+            html.append("<article class=\"post\"><div><div><span>Member-only story</span></div>")
+                    .append("<h2><a href=\"/posts/").append(page).append('-').append(post).append("\">Post ")
+                    .append(post).append(" of page ").append(page).append("</a></h2>")
+                    .append("<div><span>Author ").append(post % 5).append("</span><span>in</span><span>Better Programming</span></div>");
+            if (medium) {
+                html.append("<div><span>Jul ").append(post % 28 + 1).append("</span><span>·</span><span>")
+                        .append(post % 12 + 2).append(" min read</span></div>");
+            } else {
+                html.append("<time datetime=\"2024-0").append(post % 9 + 1).append("-1").append(post % 10).append("\">")
+                        .append("Jan 1").append(post % 10).append(", 2024</time>");
+            }
+            html.append("<p>").append("Lorem ipsum dolor sit amet, consectetur adipiscing elit. ".repeat(4)).append("</p>")
+                    .append("<div><span>1.2K</span><span>34</span><span>Share</span></div></article>");
+        }
+        html.append("</main><footer><a href=\"/privacy\">Privacy</a></footer></body></html>");
+        return html.toString();
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+
+    private record Page(Document document, SelectorPlan plan) {
+    }
+
+    private record Result(String path, long elapsedNanos, long pages, long cards, long allocatedBytes) {
+        private void print(PrintStream report) {
+            report.printf("%-8s %14.1f %14.1f %14d%n", path, elapsedNanos / 1e3 / pages,
+                    (double) elapsedNanos / Math.max(cards, 1), allocatedBytes / pages / 1024);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.platform.scrapper.bench;
+
+import com.platform.scrapper.extract.PublishDateNormalizer;
+import com.platform.scrapper.fetch.replay.PageSnapshot;
+import com.platform.scrapper.fetch.replay.PageSnapshotStore;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Publish date parsing cost, PublishDateNormalizer against the regex code BlogScraper used
+ * before it. Two workloads:
+ * <ul>
+ *   <li>dates: date strings as they appear on blog listings, each parsed once</li>
+ *   <li>scan: own texts of span, div and time elements, each checked for looking like a
+ *   date, as the Medium fallback scan does for every card</li>
+ * </ul>
+ * The date corpus is a fixed set of strings seen on Medium, dev.to, WordPress, Ghost and
+ * Substack listings. The scan corpus is taken from pages recorded with
+ * blog.scraper.snapshots.mode=record, or built from the date corpus and typical card text
+ * when there are none.
+ * <p>
+ * Run with {@code gradle dateBenchmark --args="--seconds 3"}. Options: --snapshots DIR, --seconds N
+ */
+public class PublishDateBenchmark {
+
+    private static final List<String> REAL_DATES = List.of(
+            "Jul 22, 2025", "Jul 22", "22 Jul 2025", "July 22, 2025", "Dec 5", "December 5, 2024",
+            "Sep 3, 2024", "September 30, 2023", "Mar 1", "Published in Towards Data Science · Jan 14",
+            "Added 20h ago", "3 days ago", "5 min ago", "1 hour ago", "2 weeks ago", "11 months ago",
+            "20h", "4d", "yesterday", "Today", "just now", "Updated 2 days ago",
+            "2025-07-22", "2025-07-22T10:15:00Z", "2025-07-22T10:15:00.000+02:00", "2024-11-03T08:00:00",
+            "Posted on Oct 8", "Oct 8 '24", "Oct 8, 2024 · 6 min read", "Last updated: Feb 2, 2025",
+            "Apr 30, 2025 at 9:41 AM", "Thu, 06 Mar 2025 14:12:09 GMT", "5 Aug", "Aug 5th, 2023");
+
+    private static final List<String> CARD_TEXT = List.of(
+            "Follow", "Sign up now", "Start writing today", "Member-only story", "5 min read", "12 min read",
+            "Decision 5", "Listen", "Share", "Highlighted by the author", "1.2K", "34", "Response",
+            "How we cut our p99 latency in half", "John Doe", "in", "Better Programming", "Top highlight");
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        long millis = Long.parseLong(options.getOrDefault("seconds", "3")) * 1000;
+        List<String> scanTexts = scanCorpus(options.get("snapshots"));
+
+        System.out.printf("%d date strings, %d scanned element texts, %d ms per case%n",
+                REAL_DATES.size(), scanTexts.size(), millis);
+        // The checksum folds every parse result in, so the JIT cannot drop the timed calls
+        System.out.printf("%-8s %-12s %14s %12s %18s%n", "corpus", "parser", "ns/op", "recognised", "checksum");
+        for (String corpus : List.of("dates", "scan")) {
+            List<String> texts = corpus.equals("dates") ? REAL_DATES : scanTexts;
+            for (String parser : List.of("legacy", "normalizer")) {
+                measure(corpus, parser, texts, millis / 3); // Warm-up
+                measure(corpus, parser, texts, millis).print();
+            }
+        }
+    }
+
+    private static Result measure(String corpus, String parser, List<String> texts, long millis) {
+        boolean scan = corpus.equals("scan");
+        boolean legacy = parser.equals("legacy");
+        Instant now = Instant.now();
+
+        long operations = 0;
+        long sink = 0;
+        long deadline = System.nanoTime() + millis * 1_000_000;
+        long started = System.nanoTime();
+        while (System.nanoTime() < deadline) {
+            for (String text : texts) {
+                if (scan) {
+                    sink += (legacy ? legacyLooksLikeDate(text) : PublishDateNormalizer.looksLikeDate(text, Locale.ENGLISH)) ? 1 : 0;
+                } else {
+                    Object parsed = legacy ? legacyFormatPublishDate(text) : PublishDateNormalizer.normalize(text, Locale.ENGLISH, now);
+                    sink += parsed != null ? parsed.hashCode() : 0;
+                }
+            }
+            operations += texts.size();
+        }
+        long elapsed = System.nanoTime() - started;
+
+        int recognised = 0;
+        for (String text : texts) {
+            boolean date = scan
+                    ? (legacy ? legacyLooksLikeDate(text) : PublishDateNormalizer.looksLikeDate(text, Locale.ENGLISH))
+                    : (legacy ? !legacyFormatPublishDate(text).equals(text) : PublishDateNormalizer.normalize(text, Locale.ENGLISH, now) != null);
+            recognised += date ? 1 : 0;
+        }
+        return new Result(corpus, parser, (double) elapsed / operations, recognised, texts.size(), sink);
+    }
+
+    private static List<String> scanCorpus(String snapshotDir) {
+        List<String> texts = new ArrayList<>();
+        if (snapshotDir != null) {
+            for (PageSnapshot snapshot : new PageSnapshotStore(Path.of(snapshotDir), PageSnapshotStore.Mode.REPLAY).loadAll()) {
+                if (snapshot.getHtml() == null) {
+                    continue;
+                }
+                for (Element element : Jsoup.parse(snapshot.getHtml(), snapshot.getUrl()).select("span, div, time")) {
+                    String text = element.ownText().trim();
+                    if (!text.isEmpty()) {
+                        texts.add(text);
+                    }
+                }
+            }
+        }
+        if (texts.isEmpty()) {
+            // Roughly one date among the texts of a card, as on a Medium listing
+            for (String date : REAL_DATES) {
+                texts.add(date);
+                texts.addAll(CARD_TEXT);
+            }
+        }
+        return texts;
+    }
+
+    // The checks BlogScraper ran per element and per post before PublishDateNormalizer
+    private static boolean legacyLooksLikeDate(String element) {
+        String text = element.toLowerCase();
+        return text.contains("ago") || text.matches(".*\\d{4}.*")
+                || text.matches(".*(jan|feb|mar|apr|may|jun|jul|aug|sep|oct|nov|dec).*");
+    }
+
+    private static String legacyFormatPublishDate(String publishDate) {
+        try {
+            if (publishDate.contains("ago") || publishDate.matches(".*\\d{1,2}\\s*(min|hour|day|week|month|year).*")) {
+                return legacyRelative(publishDate);
+            }
+            if (publishDate.matches("\\d{4}-\\d{2}-\\d{2}.*")) {
+                try {
+                    LocalDateTime dateTime = LocalDateTime.parse(publishDate.substring(0, 19));
+                    return dateTime.format(DateTimeFormatter.ofPattern("MMM dd, yyyy 'at' HH:mm"));
+                } catch (Exception e) {
+                    try {
+                        return LocalDate.parse(publishDate.substring(0, 10)).format(DateTimeFormatter.ofPattern("MMM dd, yyyy"));
+                    } catch (Exception e2) {
+                        return publishDate;
+                    }
+                }
+            }
+            if (publishDate.matches(".*\\d{4}.*")) {
+                Matcher matcher = Pattern.compile("(\\w{3})\\s*(\\d{1,2}),?\\s*(\\d{4})").matcher(publishDate);
+                if (matcher.find()) {
+                    return matcher.group(1) + " " + matcher.group(2) + ", " + matcher.group(3);
+                }
+            }
+        } catch (Exception e) {
+            // Returned unchanged, as before
+        }
+        return publishDate;
+    }
+
+    private static String legacyRelative(String relativeTime) {
+        LocalDateTime now = LocalDateTime.now();
+        Matcher matcher = Pattern.compile("(\\d+)\\s*(min|hour|h|day|d|week|w|month|m|year|y)").matcher(relativeTime.toLowerCase());
+        if (!matcher.find()) {
+            return relativeTime;
+        }
+        int amount = Integer.parseInt(matcher.group(1));
+        LocalDateTime exactTime = switch (matcher.group(2)) {
+            case "min" -> now.minusMinutes(amount);
+            case "hour", "h" -> now.minusHours(amount);
+            case "day", "d" -> now.minusDays(amount);
+            case "week", "w" -> now.minusWeeks(amount);
+            case "month", "m" -> now.minusMonths(amount);
+            default -> now.minusYears(amount);
+        };
+        return exactTime.format(DateTimeFormatter.ofPattern("MMM dd, yyyy 'at' HH:mm"));
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+
+    private record Result(String corpus, String parser, double nanosPerOp, int recognised, int texts, long sink) {
+        private void print() {
+            System.out.printf("%-8s %-12s %14.1f %12s %18x%n", corpus, parser, nanosPerOp, recognised + "/" + texts, sink);
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package com.platform.scrapper.bench;
+
+import com.platform.scrapper.BlogScraper;
+import com.platform.scrapper.browser.BrowserPageSettings;
+import com.platform.scrapper.browser.WebDriverPool;
+import com.platform.scrapper.domain.BlogPost;
+import com.platform.scrapper.extract.SelectorPlan;
+import com.platform.scrapper.extract.SiteProfile;
+import com.platform.scrapper.extract.SiteVariant;
+import com.platform.scrapper.fetch.FetchMode;
+import com.platform.scrapper.fetch.PageFetcher;
+import com.platform.scrapper.fetch.StaticPageFetcher;
+import com.platform.scrapper.fetch.replay.PageSnapshot;
+import com.platform.scrapper.fetch.replay.PageSnapshotStore;
+import com.platform.scrapper.fetch.replay.ReplayPageFetcher;
+import com.platform.scrapper.fetch.replay.ReplayServer;
+import com.platform.scrapper.politeness.HostPoliteness;
+import com.platform.scrapper.repository.BlogPostBatchRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Offline throughput benchmark of the scrape path, fetch -> parse -> extract -> persist, over
+ * pages recorded with blog.scraper.snapshots.mode=record. Without recordings it generates
+ * synthetic listing pages, so it runs on a box with no network at all.
+ * <p>
+ * Each recorded page is replayed as many virtual websites as a run needs, each on its own
+ * host so per-host politeness never throttles the run. Pages are served from memory, or with
+ * {@code --http} from a local {@link ReplayServer} through the real HTTP client. Persisting
+ * needs a migrated database ({@code --jdbc-url}); rows are written under negative created_by
+ * ids and deleted afterwards.
+ * <p>
+ * Run with {@code gradle scrapeBenchmark --args="--sites 1,10,1000 --rounds 3"}. Options:
+ * --snapshots DIR, --sites N[,N...], --rounds N, --threads N, --http, --stream,
+ * --jdbc-url URL, --jdbc-user USER, --jdbc-password PASSWORD
+ */
+public class ScrapeBenchmark {
+
+    private static final int SYNTHETIC_PAGES = 8;
+    private static final int SYNTHETIC_POSTS_PER_PAGE = 20;
+
+    private final Map<String, String> options;
+    private final PrintStream report;
+    private final List<PageSnapshot> snapshots;
+    private final List<SiteProfile> profiles = new ArrayList<>();
+    private final Map<String, PageSnapshot> replayPages = new ConcurrentHashMap<>();
+    private ReplayServer replayServer;
+    private BlogScraper scraper;
+    private BlogPostBatchRepository batchRepository;
+    private JdbcTemplate jdbcTemplate;
+    private int siteSequence;
+
+    private ScrapeBenchmark(Map<String, String> options, PrintStream report) {
+        this.options = options;
+        this.report = report;
+        List<PageSnapshot> recorded = new PageSnapshotStore(Path.of(options.getOrDefault("snapshots", "scrape-snapshots")),
+                PageSnapshotStore.Mode.REPLAY).loadAll().stream()
+                .filter(snapshot -> snapshot.getUrl() != null && !snapshot.getUrl().endsWith("/robots.txt"))
+                .toList();
+        this.snapshots = recorded.isEmpty() ? syntheticPages() : recorded;
+        report.println((recorded.isEmpty() ? "No recorded pages found; using " : "Replaying ")
+                + snapshots.size() + " pages");
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        PrintStream report = System.out;
+        // The scraper logs every post to stdout; keep it out of the timings and the report
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        ScrapeBenchmark benchmark = new ScrapeBenchmark(options, report);
+        try {
+            benchmark.setUp();
+            benchmark.learnProfiles();
+            report.printf("%8s %8s %10s %10s %10s %9s %9s %9s %12s %12s%n", "sites", "rounds", "wall ms",
+                    "sites/s", "posts/s", "p50 ms", "p95 ms", "max ms", "alloc KB", "persist ms");
+            int rounds = Integer.parseInt(options.getOrDefault("rounds", "3"));
+            for (String size : options.getOrDefault("sites", "1,10,1000").split(",")) {
+                benchmark.run(Integer.parseInt(size.trim()), rounds);
+            }
+        } finally {
+            benchmark.tearDown();
+        }
+    }
+
+    private void setUp() throws Exception {
+        PageFetcher fetcher;
+        if (options.containsKey("http")) {
+            replayServer = new ReplayServer(threads());
+            for (int i = 0; i < snapshots.size(); i++) {
+                replayServer.register("/s/" + i, snapshots.get(i));
+            }
+            fetcher = new StaticPageFetcher();
+        } else {
+            fetcher = new ReplayPageFetcher(replayPages);
+        }
+        scraper = new BlogScraper(new WebDriverPool(), fetcher, new HostPoliteness(fetcher), new BrowserPageSettings(),
+                new PageSnapshotStore());
+
+        if (options.containsKey("jdbc-url")) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setJdbcUrl(options.get("jdbc-url"));
+            dataSource.setUsername(options.get("jdbc-user"));
+            dataSource.setPassword(options.get("jdbc-password"));
+            dataSource.setMaximumPoolSize(threads());
+            dataSource.addDataSourceProperty("reWriteBatchedInserts", "true");
+            jdbcTemplate = new JdbcTemplate(dataSource);
+            batchRepository = new BlogPostBatchRepository(jdbcTemplate);
+        }
+    }
+
+    /**
+     * Scrape each page once with the built-in selectors and keep the container selector that
+     * matched, as ExtractionProfileRegistry does, so timed runs use steady-state profiles
+     */
+    private void learnProfiles() {
+        for (int i = 0; i < snapshots.size(); i++) {
+            SiteVariant variant = SiteVariant.guessFor(snapshots.get(i).getUrl());
+            SiteProfile builtIn = staticProfile(variant, SelectorPlan.defaultFor(variant), true);
+            BlogScraper.ScrapeResult result = scraper.scrape(siteUrl(i), null, builtIn);
+            String container = result.getContainerSelector();
+            profiles.add(container == null ? builtIn
+                    : staticProfile(variant, SelectorPlan.defaultFor(variant).toBuilder()
+                            .containerSelectors(List.of(container)).build(), false));
+        }
+    }
+
+    private void run(int sites, int rounds) throws Exception {
+        run(sites, 1, false); // Warm-up
+        Stats stats = run(sites, rounds, true);
+        report.printf("%8d %8d %10d %10.1f %10.1f %9.2f %9.2f %9.2f %12d %12s%n", sites, rounds,
+                stats.wallNanos / 1_000_000, stats.sites * 1e9 / stats.wallNanos, stats.posts * 1e9 / stats.wallNanos,
+                stats.percentileMillis(0.50), stats.percentileMillis(0.95), stats.percentileMillis(1.0),
+                stats.allocatedBytes / Math.max(stats.sites, 1) / 1024,
+                batchRepository != null ? String.format(Locale.ROOT, "%.2f", stats.persistNanos / 1e6 / Math.max(stats.sites, 1)) : "-");
+    }
+
+    private Stats run(int sites, int rounds, boolean measure) throws Exception {
+        Stats stats = new Stats();
+        ExecutorService executor = Executors.newFixedThreadPool(threads());
+        try {
+            for (int round = 0; round < rounds; round++) {
+                List<Future<SiteRun>> runs = new ArrayList<>();
+                long started = System.nanoTime();
+                for (int i = 0; i < sites; i++) {
+                    int page = i % snapshots.size();
+                    String url = siteUrl(page);
+                    long createdBy = -(++siteSequence); // Negative ids never clash with real websites
+                    runs.add(executor.submit(() -> scrapeSite(url, page, createdBy)));
+                }
+                for (Future<SiteRun> future : runs) {
+                    stats.add(future.get());
+                }
+                stats.wallNanos += System.nanoTime() - started;
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return measure ? stats : null;
+    }
+
+    private SiteRun scrapeSite(String url, int page, long createdBy) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long started = System.nanoTime();
+
+        BlogScraper.StreamLimit limit = options.containsKey("stream") ? BlogScraper.StreamLimit.NONE : null;
+        BlogScraper.ScrapeResult result = scraper.scrape(url, null, profiles.get(page), limit);
+        long scrapeNanos = System.nanoTime() - started;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        long persistNanos = 0;
+        if (batchRepository != null && !result.getBlogPosts().isEmpty()) {
+            long persistStarted = System.nanoTime();
+            batchRepository.insertIgnoringDuplicates(toEntities(result.getBlogPosts(), createdBy));
+            persistNanos = System.nanoTime() - persistStarted;
+        }
+        return new SiteRun(scrapeNanos, persistNanos, allocated, result.getBlogPosts().size());
+    }
+
+    private static List<BlogPost> toEntities(List<BlogScraper.BlogPost> posts, long createdBy) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, BlogPost> byTitle = new HashMap<>();
+        for (BlogScraper.BlogPost post : posts) {
+            byTitle.putIfAbsent(post.getBlogTitle(), BlogPost.builder()
+                    .title(post.getBlogTitle())
+                    .description(post.getExcerpt())
+                    .canonicalLink(post.getCanonicalLink())
+                    .publishedAt(post.getPublishedAt() != null ? LocalDateTime.ofInstant(post.getPublishedAt(), ZoneOffset.UTC) : null)
+                    .createdBy(createdBy)
+                    .websiteId(createdBy)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+        return new ArrayList<>(byTitle.values());
+    }
+
+    /**
+     * A fresh virtual website serving recorded page {@code page}. Keeping the original host as
+     * a suffix keeps host-based rules, e.g. Medium link handling, working.
+     */
+    private String siteUrl(int page) {
+        int site = siteSequence++;
+        PageSnapshot snapshot = snapshots.get(page);
+        if (replayServer != null) {
+            return replayServer.urlFor(site, "/s/" + page);
+        }
+
+        URI original = URI.create(snapshot.getUrl());
+        String url = original.getScheme() + "://site-" + site + "." + original.getHost()
+                + (original.getRawPath() != null ? original.getRawPath() : "")
+                + (original.getRawQuery() != null ? "?" + original.getRawQuery() : "");
+        replayPages.put(url, snapshot);
+        return url;
+    }
+
+    private static SiteProfile staticProfile(SiteVariant variant, SelectorPlan plan, boolean builtIn) {
+        return SiteProfile.builder()
+                .variant(variant)
+                .plan(plan)
+                .fetchMode(FetchMode.STATIC)
+                .scrollDepth(SiteProfile.DEFAULT_SCROLL_DEPTH)
+                .dateLocale(Locale.ENGLISH)
+                .builtIn(builtIn)
+                .build();
+    }
+
+    private void tearDown() {
+        if (replayServer != null) {
+            replayServer.close();
+        }
+        if (jdbcTemplate != null) {
+            int deleted = jdbcTemplate.update("DELETE FROM blog_post WHERE created_by < 0");
+            report.println("Removed " + deleted + " benchmark rows");
+            ((HikariDataSource) jdbcTemplate.getDataSource()).close();
+        }
+    }
+
+    private int threads() {
+        return Integer.parseInt(options.getOrDefault("threads", "4"));
+    }
+
+    private static List<PageSnapshot> syntheticPages() {
+        List<PageSnapshot> pages = new ArrayList<>();
+        for (int page = 0; page < SYNTHETIC_PAGES; page++) {
+            StringBuilder html = new StringBuilder("<html><head><title>Blog</title><script>var analytics = {};</script></head><body>")
+                    .append("<nav><a href=\"/\">Home</a><a href=\"/about\">About</a></nav><main>");
+            for (int post = 0; post < SYNTHETIC_POSTS_PER_PAGE; post++) {
+                html.append("<article class=\"post\"><h2><a href=\"/posts/").append(page).append('-').append(post)
+                        .append("?utm_source=feed\">Post ").append(post).append(" of page ").append(page).append("</a></h2>")
+                        .append("<span class=\"author\">Author ").append(post % 5).append("</span>")
+                        .append("<time datetime=\"2024-0").append(post % 9 + 1).append("-1").append(post % 10).append("\">")
+                        .append("Jan 1").append(post % 10).append(", 2024</time><span>").append(post % 12 + 2).append(" min read</span>")
+                        .append("<p class=\"excerpt\">").append("Lorem ipsum dolor sit amet, consectetur adipiscing elit. ".repeat(4))
+                        .append("</p></article>");
+            }
+            html.append("</main><footer><a href=\"/privacy\">Privacy</a></footer></body></html>");
+            pages.add(PageSnapshot.builder()
+                    .url("https://blog-" + page + ".bench.invalid/")
+                    .html(html.toString())
+                    .build());
+        }
+        return pages;
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + args[i] + " in " + Arrays.toString(args));
+            }
+            String name = args[i].substring(2);
+            boolean flag = i + 1 >= args.length || args[i + 1].startsWith("--");
+            options.put(name, flag ? "true" : args[++i]);
+        }
+        return options;
+    }
+
+    private record SiteRun(long scrapeNanos, long persistNanos, long allocatedBytes, int posts) {
+    }
+
+    private static class Stats {
+        private final List<Long> scrapeNanos = new ArrayList<>();
+        private long wallNanos;
+        private long persistNanos;
+        private long allocatedBytes;
+        private long posts;
+        private int sites;
+
+        private void add(SiteRun run) {
+            scrapeNanos.add(run.scrapeNanos());
+            persistNanos += run.persistNanos();
+            allocatedBytes += run.allocatedBytes();
+            posts += run.posts();
+            sites++;
+        }
+
+        private double percentileMillis(double percentile) {
+            List<Long> sorted = scrapeNanos.stream().sorted().toList();
+            int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+            return sorted.get(Math.max(index, 0)) / 1e6;
+        }
+    }
+}
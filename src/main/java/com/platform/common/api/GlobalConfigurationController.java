@@ -52,6 +52,11 @@ public class GlobalConfigurationController {
         return ResponseEntity.ok(updatedConfig);
     }
     
+    @GetMapping("/cache/stats")
+    public ResponseEntity<Map<String, Number>> getCacheStatistics() {
+        return ResponseEntity.ok(configService.getCacheStatistics());
+    }
+    
     @GetMapping("/storage/type")
     public ResponseEntity<Map<String, String>> getStorageType() {
         String storageType = configService.isS3Enabled() ? "S3" : "LOCAL";
@@ -0,0 +1,65 @@
+package com.platform.common.migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fills search_vector for rows that existed before V1735804656019 added it. Runs outside a
+ * transaction and commits each id range on its own, so rows are only locked briefly and a
+ * large table never sits in one huge transaction. Rows written meanwhile are covered by the
+ * triggers. Spring Boot registers JavaMigration beans with Flyway.
+ */
+@Component
+@Slf4j
+public class V1735804656020__Backfill_search_vectors extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 5000;
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(true);
+        try {
+            backfill(connection, "post", "post_search_vector(user_name, caption)");
+            backfill(connection, "blog_post", "blog_post_search_vector(title, description)");
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private void backfill(Connection connection, String table, String vector) throws SQLException {
+        long maxId;
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+            resultSet.next();
+            maxId = resultSet.getLong(1);
+        }
+
+        long updated = 0;
+        String sql = "UPDATE " + table + " SET search_vector = " + vector +
+                     " WHERE id > ? AND id <= ? AND search_vector IS NULL";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (long from = 0; from < maxId; from += BATCH_SIZE) {
+                statement.setLong(1, from);
+                statement.setLong(2, from + BATCH_SIZE);
+                updated += statement.executeUpdate();
+            }
+        }
+        log.info("Backfilled search vectors of {} {} rows", updated, table);
+    }
+}
@@ -0,0 +1,48 @@
+package com.platform.common.search;
+
+import lombok.Getter;
+
+import java.util.Optional;
+
+/**
+ * One page of a ranked full-text search: the trimmed term and the LIMIT/OFFSET to read.
+ * Searches rank only the newest search.max-candidates matches, so pages past them are
+ * empty and never reach the database.
+ */
+@Getter
+public final class SearchPage {
+
+    public static final int MAX_PAGE_SIZE = 50;
+    public static final int MAX_TERM_LENGTH = 200;
+
+    private final String term;
+    private final int limit;
+    private final int offset;
+
+    private SearchPage(String term, int limit, int offset) {
+        this.term = term;
+        this.limit = limit;
+        this.offset = offset;
+    }
+
+    /**
+     * The page to read, or empty when the term is blank or the page starts past the candidates
+     */
+    public static Optional<SearchPage> of(String searchTerm, int page, int size, int maxCandidates) {
+        String term = searchTerm == null ? "" : searchTerm.strip();
+        if (term.isEmpty()) {
+            return Optional.empty();
+        }
+        if (term.length() > MAX_TERM_LENGTH) {
+            term = term.substring(0, MAX_TERM_LENGTH);
+        }
+
+        // A long, so a huge page number cannot wrap negative and slip past the candidate check
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        long offset = (long) Math.max(page, 0) * pageSize;
+        if (offset >= maxCandidates) {
+            return Optional.empty();
+        }
+        return Optional.of(new SearchPage(term, pageSize, (int) offset));
+    }
+}
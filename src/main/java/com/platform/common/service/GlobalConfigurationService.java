@@ -3,6 +3,7 @@ package com.platform.common.service;
 import com.platform.common.GlobalConfiguration;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface GlobalConfigurationService {
@@ -42,6 +43,11 @@ public interface GlobalConfigurationService {
      */
     GlobalConfiguration setConfigValue(String configKey, String configValue, String description);
     
+    /**
+     * Get hit/miss counters of the configuration cache
+     */
+    Map<String, Number> getCacheStatistics();
+    
     /**
      * Get all active configurations
      */
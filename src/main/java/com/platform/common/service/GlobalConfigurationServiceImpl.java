@@ -1,15 +1,18 @@
 package com.platform.common.service;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.platform.common.GlobalConfiguration;
 import com.platform.common.repository.GlobalConfigurationRepository;
+import com.platform.config.CacheConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -18,11 +21,15 @@ import java.util.Optional;
 public class GlobalConfigurationServiceImpl implements GlobalConfigurationService {
     
     private final GlobalConfigurationRepository globalConfigurationRepository;
+    private final CacheManager cacheManager;
     
     @Override
-    @Cacheable(value = "config", key = "#configKey")
     public Optional<String> getConfigValue(String configKey) {
-        return globalConfigurationRepository.findConfigValueByKey(configKey);
+        // Goes through the cache explicitly: the typed getters below call this method on `this`,
+        // which would bypass a @Cacheable proxy and hit the database every time
+        String value = configCache().get(configKey,
+                () -> globalConfigurationRepository.findConfigValueByKey(configKey).orElse(null));
+        return Optional.ofNullable(value);
     }
     
     @Override
@@ -71,15 +78,15 @@ public class GlobalConfigurationServiceImpl implements GlobalConfigurationServic
     
     @Override
     @Transactional
-    @CacheEvict(value = "config", key = "#configKey")
     public GlobalConfiguration setConfigValue(String configKey, String configValue, String description) {
         Optional<GlobalConfiguration> existingConfig = globalConfigurationRepository.findActiveConfigByKey(configKey);
         
+        GlobalConfiguration savedConfig;
         if (existingConfig.isPresent()) {
             GlobalConfiguration config = existingConfig.get();
             config.setConfigValue(configValue);
             config.setDescription(description);
-            return globalConfigurationRepository.save(config);
+            savedConfig = globalConfigurationRepository.save(config);
         } else {
             GlobalConfiguration newConfig = GlobalConfiguration.builder()
                     .configKey(configKey)
@@ -87,8 +94,28 @@ public class GlobalConfigurationServiceImpl implements GlobalConfigurationServic
                     .description(description)
                     .isActive(true)
                     .build();
-            return globalConfigurationRepository.save(newConfig);
+            savedConfig = globalConfigurationRepository.save(newConfig);
         }
+        
+        // Deferred until commit by the transaction-aware cache manager
+        configCache().evict(configKey);
+        return savedConfig;
+    }
+    
+    @Override
+    public Map<String, Number> getCacheStatistics() {
+        Object nativeCache = configCache().getNativeCache();
+        if (!(nativeCache instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeineCache)) {
+            return Map.of();
+        }
+        
+        CacheStats stats = caffeineCache.stats();
+        return Map.of(
+                "size", caffeineCache.estimatedSize(),
+                "hitCount", stats.hitCount(),
+                "missCount", stats.missCount(),
+                "hitRate", stats.hitRate(),
+                "evictionCount", stats.evictionCount());
     }
     
     @Override
@@ -140,4 +167,8 @@ public class GlobalConfigurationServiceImpl implements GlobalConfigurationServic
     public int getImageCompressionQuality() {
         return getIntConfig("image_compression_quality", 80);
     }
+    
+    private Cache configCache() {
+        return cacheManager.getCache(CacheConfig.CONFIG_CACHE);
+    }
 }
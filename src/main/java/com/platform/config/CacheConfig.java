@@ -0,0 +1,26 @@
+package com.platform.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String CONFIG_CACHE = "config";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${spring.cache.caffeine.spec:maximumSize=500,expireAfterWrite=60s,recordStats}") String cacheSpec) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager(CONFIG_CACHE);
+        caffeineCacheManager.setCacheSpecification(cacheSpec);
+        
+        // Evictions issued inside a transaction only take effect once it commits
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
@@ -0,0 +1,151 @@
+package com.platform.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.event.broker.EventBroker;
+import com.platform.event.broker.InMemoryEventBroker;
+import com.platform.event.broker.KafkaEventBroker;
+import com.platform.event.broker.KafkaEventConsumer;
+import com.platform.event.service.DomainEventDispatcher;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+
+import java.util.Map;
+
+/**
+ * Picks the domain event broker from events.broker. The Kafka clients get their own
+ * factories so the event stream's batching, compression and poll settings do not leak into
+ * other spring.kafka users.
+ */
+@Configuration
+@Slf4j
+public class EventBrokerConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "events.broker", havingValue = "memory", matchIfMissing = true)
+    public EventBroker inMemoryEventBroker(DomainEventDispatcher dispatcher,
+                                           @Value("${events.memory.lanes:4}") int lanes,
+                                           @Value("${events.memory.delivery-timeout-seconds:60}") long deliveryTimeoutSeconds) {
+        log.info("Delivering domain events in memory over {} lanes", lanes);
+        return new InMemoryEventBroker(dispatcher, lanes, deliveryTimeoutSeconds);
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "events.broker", havingValue = "kafka")
+    public static class KafkaEvents {
+
+        private static final String DEAD_LETTER_SUFFIX = ".DLT";
+        private static final int MAX_POLL_INTERVAL_MS = 300000;
+
+        @Value("${events.kafka.topic:platform-events}")
+        private String topic;
+
+        @Bean
+        public NewTopic eventTopic(@Value("${events.kafka.partitions:6}") int partitions,
+                                   @Value("${events.kafka.replication-factor:1}") int replicationFactor) {
+            return TopicBuilder.name(topic).partitions(partitions).replicas(replicationFactor).build();
+        }
+
+        /**
+         * Dead letters of the event topic; records keep their partition number, so it has as many
+         */
+        @Bean
+        public NewTopic eventDeadLetterTopic(@Value("${events.kafka.partitions:6}") int partitions,
+                                             @Value("${events.kafka.replication-factor:1}") int replicationFactor) {
+            return TopicBuilder.name(topic + DEAD_LETTER_SUFFIX).partitions(partitions).replicas(replicationFactor).build();
+        }
+
+        /**
+         * Idempotent producer that lingers briefly so a relayed outbox batch leaves in few,
+         * compressed record batches; repeated JSON field names compress well
+         */
+        @Bean
+        public ProducerFactory<String, String> eventProducerFactory(KafkaProperties kafkaProperties, SslBundles sslBundles,
+                                                                    @Value("${events.kafka.compression-type:zstd}") String compressionType,
+                                                                    @Value("${events.kafka.linger-ms:20}") int lingerMs,
+                                                                    @Value("${events.kafka.batch-size:131072}") int batchSize) {
+            Map<String, Object> properties = kafkaProperties.buildProducerProperties(sslBundles);
+            properties.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+            properties.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+            properties.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+            properties.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+            properties.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+            properties.put(ProducerConfig.ACKS_CONFIG, "all");
+            properties.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+            return new DefaultKafkaProducerFactory<>(properties);
+        }
+
+        @Bean
+        public KafkaTemplate<String, String> eventKafkaTemplate(ProducerFactory<String, String> eventProducerFactory) {
+            return new KafkaTemplate<>(eventProducerFactory);
+        }
+
+        @Bean
+        public EventBroker kafkaEventBroker(KafkaTemplate<String, String> eventKafkaTemplate, ObjectMapper objectMapper,
+                                            @Value("${events.kafka.send-timeout-seconds:30}") long sendTimeoutSeconds) {
+            log.info("Publishing domain events to Kafka topic {}", topic);
+            return new KafkaEventBroker(eventKafkaTemplate, objectMapper, topic, sendTimeoutSeconds);
+        }
+
+        @Bean
+        public ConcurrentKafkaListenerContainerFactory<String, String> eventListenerContainerFactory(
+                KafkaProperties kafkaProperties, SslBundles sslBundles,
+                @Value("${events.kafka.group-id:platform-events}") String groupId,
+                @Value("${events.kafka.max-poll-records:500}") int maxPollRecords,
+                @Value("${events.kafka.concurrency:2}") int concurrency,
+                @Value("${events.retry.max-attempts:10}") int maxAttempts,
+                @Value("${events.retry.initial-backoff-ms:1000}") long initialBackoffMs,
+                @Value("${events.retry.max-backoff-ms:60000}") long maxBackoffMs,
+                KafkaTemplate<String, String> eventKafkaTemplate) {
+            Map<String, Object> properties = kafkaProperties.buildConsumerProperties(sslBundles);
+            properties.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+            properties.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+            properties.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+            properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+            properties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+            properties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+            properties.put(ConsumerConfig.MAX_POLL_INTERVAL_MS_CONFIG, MAX_POLL_INTERVAL_MS);
+            ConsumerFactory<String, String> consumerFactory = new DefaultKafkaConsumerFactory<>(properties);
+
+            ConcurrentKafkaListenerContainerFactory<String, String> factory = new ConcurrentKafkaListenerContainerFactory<>();
+            factory.setConsumerFactory(consumerFactory);
+            factory.setBatchListener(true);
+            factory.setConcurrency(concurrency);
+            // Retry a failing event with the outbox relay's backoff, then park it on the dead-letter topic and move on.
+            // The consumer sleeps through each backoff, so it is kept under max.poll.interval.ms.
+            ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(Math.max(maxAttempts - 1, 0));
+            backOff.setInitialInterval(initialBackoffMs);
+            backOff.setMultiplier(2);
+            backOff.setMaxInterval(Math.min(maxBackoffMs, MAX_POLL_INTERVAL_MS / 2));
+            DeadLetterPublishingRecoverer deadLetters = new DeadLetterPublishingRecoverer(eventKafkaTemplate,
+                    (record, e) -> new TopicPartition(record.topic() + DEAD_LETTER_SUFFIX, record.partition()));
+            factory.setCommonErrorHandler(new DefaultErrorHandler(deadLetters, backOff));
+            return factory;
+        }
+
+        @Bean
+        public KafkaEventConsumer kafkaEventConsumer(DomainEventDispatcher dispatcher, ObjectMapper objectMapper) {
+            return new KafkaEventConsumer(dispatcher, objectMapper);
+        }
+    }
+}
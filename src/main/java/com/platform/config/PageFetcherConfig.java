@@ -0,0 +1,36 @@
+package com.platform.config;
+
+import com.platform.scrapper.fetch.PageFetcher;
+import com.platform.scrapper.fetch.StaticPageFetcher;
+import com.platform.scrapper.fetch.replay.PageSnapshotStore;
+import com.platform.scrapper.fetch.replay.RecordingPageFetcher;
+import com.platform.scrapper.fetch.replay.ReplayPageFetcher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Picks the fetcher the scraper uses from blog.scraper.snapshots.mode: live HTTP, HTTP
+ * with every page recorded, or recorded pages only
+ */
+@Configuration
+@Slf4j
+public class PageFetcherConfig {
+
+    @Bean
+    @Primary
+    public PageFetcher pageFetcher(StaticPageFetcher staticPageFetcher, PageSnapshotStore snapshotStore) {
+        return switch (snapshotStore.getMode()) {
+            case OFF -> staticPageFetcher;
+            case RECORD -> {
+                log.info("Recording fetched pages to {}", snapshotStore.getDir().toAbsolutePath());
+                yield new RecordingPageFetcher(staticPageFetcher, snapshotStore);
+            }
+            case REPLAY -> {
+                log.info("Replaying recorded pages from {}", snapshotStore.getDir().toAbsolutePath());
+                yield new ReplayPageFetcher(snapshotStore);
+            }
+        };
+    }
+}
@@ -0,0 +1,25 @@
+package com.platform.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * An event as delivered to listeners. Delivery is at least once, so listeners must cope with
+ * seeing the same id twice.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DomainEvent {
+    private long id; // Outbox row id
+    private String type;
+    private String key;
+    private LocalDateTime occurredAt;
+    private JsonNode payload;
+}
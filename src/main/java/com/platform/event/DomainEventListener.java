@@ -0,0 +1,17 @@
+package com.platform.event;
+
+import java.util.Set;
+
+/**
+ * Asynchronous follow-up work for domain events. Every bean implementing this is registered
+ * with DomainEventDispatcher, whichever broker is in use.
+ */
+public interface DomainEventListener {
+
+    Set<String> eventTypes();
+
+    /**
+     * Handle one event; throwing makes the broker deliver it again later
+     */
+    void onEvent(DomainEvent event) throws Exception;
+}
@@ -0,0 +1,15 @@
+package com.platform.event;
+
+/**
+ * Event type names. They are stored in the outbox and sent to the broker, so existing
+ * names must never change.
+ */
+public final class EventTypes {
+
+    public static final String POST_CREATED = "post.created";
+    public static final String BLOG_POST_CREATED = "blog-post.created";
+    public static final String BLOG_POSTS_SCRAPED = "blog-posts.scraped";
+
+    private EventTypes() {
+    }
+}
@@ -0,0 +1,18 @@
+package com.platform.event.broker;
+
+import com.platform.event.DomainEvent;
+
+import java.util.List;
+
+/**
+ * Where OutboxRelay sends events. Picked by events.broker: "memory" for tests and single-node
+ * deployments, "kafka" when several instances share the work.
+ */
+public interface EventBroker {
+
+    /**
+     * Send a batch in order, returning once every event is accepted, failed or timed out
+     * @return the events that were not accepted; only those are sent again later
+     */
+    PublishResult publish(List<DomainEvent> events);
+}
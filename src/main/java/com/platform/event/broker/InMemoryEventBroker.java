@@ -0,0 +1,104 @@
+package com.platform.event.broker;
+
+import com.platform.event.DomainEvent;
+import com.platform.event.service.DomainEventDispatcher;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Delivers events to this instance's listeners without an external broker. Like Kafka
+ * partitions, each key maps to one single-threaded lane, so events of a key are handled in
+ * order while different keys run in parallel. An event counts as accepted once every listener
+ * has handled it; a failed event, and the events of its key after it, stay in the outbox to be
+ * delivered again.
+ */
+@Slf4j
+public class InMemoryEventBroker implements EventBroker {
+
+    private final DomainEventDispatcher dispatcher;
+    private final ExecutorService[] lanes;
+    private final long deliveryTimeoutSeconds;
+
+    public InMemoryEventBroker(DomainEventDispatcher dispatcher, int laneCount, long deliveryTimeoutSeconds) {
+        this.dispatcher = dispatcher;
+        this.deliveryTimeoutSeconds = deliveryTimeoutSeconds;
+        this.lanes = new ExecutorService[Math.max(laneCount, 1)];
+        AtomicInteger laneNumber = new AtomicInteger();
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "event-lane-" + laneNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    @Override
+    public PublishResult publish(List<DomainEvent> events) {
+        PublishResult result = new PublishResult();
+        // A key always runs on the same single-threaded lane, so its events run in batch order and,
+        // once one fails, the rest of that key is held back for the next attempt
+        Set<String> failedKeys = ConcurrentHashMap.newKeySet();
+        CompletableFuture<?>[] deliveries = new CompletableFuture<?>[events.size()];
+        for (int i = 0; i < events.size(); i++) {
+            DomainEvent event = events.get(i);
+            String key = String.valueOf(event.getKey());
+            deliveries[i] = CompletableFuture.runAsync(() -> {
+                if (failedKeys.contains(key)) {
+                    result.holdBack(event.getId());
+                    return;
+                }
+                try {
+                    dispatcher.dispatch(event);
+                } catch (Exception e) {
+                    failedKeys.add(key);
+                    result.fail(event.getId(), e.getMessage());
+                }
+            }, lanes[laneFor(event.getKey())]);
+        }
+
+        try {
+            CompletableFuture.allOf(deliveries).get(deliveryTimeoutSeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failUnfinished(events, deliveries, result, "Interrupted while delivering events");
+        } catch (ExecutionException e) {
+            // Deliveries record their own failures
+        } catch (TimeoutException e) {
+            failUnfinished(events, deliveries, result, "Event delivery timed out after " + deliveryTimeoutSeconds + "s");
+        }
+        return result;
+    }
+
+    private static void failUnfinished(List<DomainEvent> events, CompletableFuture<?>[] deliveries,
+                                       PublishResult result, String error) {
+        for (int i = 0; i < deliveries.length; i++) {
+            // Cancelling stops deliveries that have not started; one already running may still finish
+            if (!deliveries[i].isDone() && deliveries[i].cancel(false)) {
+                result.fail(events.get(i).getId(), error);
+            }
+        }
+    }
+
+    private int laneFor(String key) {
+        return Math.floorMod(key != null ? key.hashCode() : 0, lanes.length);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.platform.event.broker;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.event.DomainEvent;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Sends events to one Kafka topic keyed by event key, so a key always lands on the same
+ * partition and keeps its order. The producer batches and compresses the records (see
+ * EventBrokerConfig); an event is accepted once its record is acknowledged.
+ */
+public class KafkaEventBroker implements EventBroker {
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final String topic;
+    private final long sendTimeoutSeconds;
+
+    public KafkaEventBroker(KafkaTemplate<String, String> kafkaTemplate, ObjectMapper objectMapper,
+                            String topic, long sendTimeoutSeconds) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.topic = topic;
+        this.sendTimeoutSeconds = sendTimeoutSeconds;
+    }
+
+    @Override
+    public PublishResult publish(List<DomainEvent> events) {
+        PublishResult result = new PublishResult();
+        CompletableFuture<?>[] sends = new CompletableFuture<?>[events.size()];
+        Set<String> failedKeys = new HashSet<>();
+        for (int i = 0; i < events.size(); i++) {
+            DomainEvent event = events.get(i);
+            if (failedKeys.contains(event.getKey())) {
+                // Sending it would overtake the failed event of its key
+                result.holdBack(event.getId());
+                sends[i] = CompletableFuture.completedFuture(null);
+                continue;
+            }
+            try {
+                sends[i] = kafkaTemplate.send(topic, event.getKey(), serialize(event));
+            } catch (RuntimeException e) {
+                // E.g. unserializable or rejected before sending; only this event is retried
+                result.fail(event.getId(), "Could not send the event: " + e.getMessage());
+                failedKeys.add(event.getKey());
+                sends[i] = CompletableFuture.completedFuture(null);
+            }
+        }
+
+        try {
+            CompletableFuture.allOf(sends).get(sendTimeoutSeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // Checked per record below
+        }
+
+        for (int i = 0; i < sends.length; i++) {
+            Long eventId = events.get(i).getId();
+            if (result.getFailed().containsKey(eventId) || result.getHeldBack().contains(eventId)) {
+                continue;
+            }
+            if (!sends[i].isDone()) {
+                result.fail(eventId, "Kafka did not acknowledge the event within " + sendTimeoutSeconds + "s");
+            } else if (sends[i].isCompletedExceptionally()) {
+                result.fail(eventId, "Kafka rejected the event: " + sends[i].exceptionNow().getMessage());
+            }
+        }
+        return result;
+    }
+
+    private String serialize(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize event " + event.getId(), e);
+        }
+    }
+}
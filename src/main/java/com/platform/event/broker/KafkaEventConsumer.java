@@ -0,0 +1,35 @@
+package com.platform.event.broker;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.event.DomainEvent;
+import com.platform.event.service.DomainEventDispatcher;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.util.List;
+
+/**
+ * Reads the event topic in batches and hands each event to DomainEventDispatcher. When an
+ * event fails, offsets before it are committed and delivery resumes from it.
+ */
+@RequiredArgsConstructor
+public class KafkaEventConsumer {
+
+    private final DomainEventDispatcher dispatcher;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(topics = "${events.kafka.topic:platform-events}",
+                   containerFactory = "eventListenerContainerFactory",
+                   batch = "true")
+    public void consume(List<ConsumerRecord<String, String>> records) {
+        for (int i = 0; i < records.size(); i++) {
+            try {
+                dispatcher.dispatch(objectMapper.readValue(records.get(i).value(), DomainEvent.class));
+            } catch (Exception e) {
+                throw new BatchListenerFailedException("Could not handle event at offset " + records.get(i).offset(), e, i);
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.platform.event.broker;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * What the broker made of a batch. Events neither failed nor held back were accepted.
+ * Safe to fill from several delivery threads.
+ */
+public class PublishResult {
+
+    private final Map<Long, String> failed = new ConcurrentHashMap<>();
+    private final Set<Long> heldBack = ConcurrentHashMap.newKeySet();
+
+    public void fail(Long eventId, String error) {
+        failed.putIfAbsent(eventId, String.valueOf(error));
+    }
+
+    /**
+     * Not attempted because an earlier event of the same key failed
+     */
+    public void holdBack(Long eventId) {
+        heldBack.add(eventId);
+    }
+
+    /**
+     * Error message per event that was tried and not accepted
+     */
+    public Map<Long, String> getFailed() {
+        return failed;
+    }
+
+    public Set<Long> getHeldBack() {
+        return heldBack;
+    }
+
+    public boolean isAccepted(Long eventId) {
+        return !failed.containsKey(eventId) && !heldBack.contains(eventId);
+    }
+}
@@ -0,0 +1,51 @@
+package com.platform.event.domain;
+
+import com.platform.common.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A domain event waiting in the outbox until OutboxRelay has handed it to the broker
+ */
+@Entity
+@Table(name = "outbox_event")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent extends BaseEntity {
+    
+    @Column(nullable = false, length = 100)
+    private String eventType; // One of EventTypes
+    
+    @Column(nullable = false)
+    private String eventKey; // Events with the same key are delivered in order, e.g. a post id
+    
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload; // Compact JSON
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxEventStatus status;
+    
+    @Column
+    private LocalDateTime publishedAt;
+    
+    @Column(nullable = false)
+    private int attempts;
+    
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+    
+    @Column(columnDefinition = "TEXT")
+    private String lastError;
+}
@@ -0,0 +1,7 @@
+package com.platform.event.domain;
+
+public enum OutboxEventStatus {
+    PENDING,
+    PUBLISHED,
+    FAILED // Gave up after events.retry.max-attempts; a dead letter left for inspection
+}
@@ -0,0 +1,57 @@
+package com.platform.event.repository;
+
+import com.platform.event.domain.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    
+    @Query(value = "SELECT COUNT(*) FROM outbox_event WHERE status = 'PENDING'", nativeQuery = true)
+    long countUnpublished();
+    
+    // Oldest first so events of one key keep their order; an event waits while an earlier one of its
+    // key is backing off after a failure. A key belongs to one relaying transaction at a time through a
+    // transaction-scoped advisory lock: another node skips every row of that key, not just the locked
+    // rows, so it cannot relay a later event while an earlier one is still in flight elsewhere.
+    @Query(value = "SELECT * FROM outbox_event o WHERE o.status = 'PENDING' AND o.next_attempt_at <= :now " +
+                   "AND NOT EXISTS (SELECT 1 FROM outbox_event earlier WHERE earlier.status = 'PENDING' " +
+                   "AND earlier.event_key = o.event_key AND earlier.id < o.id AND earlier.next_attempt_at > :now) " +
+                   "AND pg_try_advisory_xact_lock(hashtext('outbox_event:' || o.event_key)) " +
+                   "ORDER BY o.id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<OutboxEvent> lockUnpublished(@Param("now") LocalDateTime now, @Param("limit") int limit);
+    
+    @Modifying
+    @Query(value = "UPDATE outbox_event SET status = 'PUBLISHED', published_at = :now, attempts = attempts + 1, " +
+                   "last_error = NULL, updated_at = :now WHERE id IN (:ids)",
+           nativeQuery = true)
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+    
+    @Modifying
+    @Query(value = "UPDATE outbox_event SET attempts = attempts + 1, next_attempt_at = :retryAt, last_error = :error, " +
+                   "updated_at = :now WHERE id = :id",
+           nativeQuery = true)
+    int markFailed(@Param("id") Long id,
+                   @Param("now") LocalDateTime now,
+                   @Param("retryAt") LocalDateTime retryAt,
+                   @Param("error") String error);
+    
+    // Out of attempts: the event stays in the table as a dead letter and no longer holds back its key
+    @Modifying
+    @Query(value = "UPDATE outbox_event SET status = 'FAILED', attempts = attempts + 1, last_error = :error, " +
+                   "updated_at = :now WHERE id = :id",
+           nativeQuery = true)
+    int markDead(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("error") String error);
+    
+    @Modifying
+    @Query(value = "DELETE FROM outbox_event WHERE status = 'PUBLISHED' AND published_at < :cutoff", nativeQuery = true)
+    int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,51 @@
+package com.platform.event.service;
+
+import com.platform.event.DomainEvent;
+import com.platform.event.DomainEventListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hands events arriving from the broker to the listeners registered for their type
+ */
+@Component
+@Slf4j
+public class DomainEventDispatcher {
+
+    private final Map<String, List<DomainEventListener>> listenersByType = new HashMap<>();
+
+    public DomainEventDispatcher(List<DomainEventListener> listeners) {
+        for (DomainEventListener listener : listeners) {
+            for (String type : listener.eventTypes()) {
+                listenersByType.computeIfAbsent(type, t -> new ArrayList<>()).add(listener);
+            }
+        }
+    }
+
+    /**
+     * Run every listener for the event. A failing listener does not stop the others; the
+     * first failure is rethrown afterwards so the broker redelivers the event.
+     */
+    public void dispatch(DomainEvent event) throws Exception {
+        Exception failure = null;
+        for (DomainEventListener listener : listenersByType.getOrDefault(event.getType(), List.of())) {
+            try {
+                listener.onEvent(event);
+            } catch (Exception e) {
+                log.warn("{} failed on event {} ({}): {}", listener.getClass().getSimpleName(), event.getId(),
+                        event.getType(), e.getMessage());
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.platform.event.service;
+
+public interface EventPublisher {
+
+    /**
+     * Add an event to the outbox in the caller's transaction. It reaches the broker only if
+     * that transaction commits.
+     * @param key events with the same key are delivered in order
+     */
+    void publish(String type, Object key, Object payload);
+}
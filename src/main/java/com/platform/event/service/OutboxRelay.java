@@ -0,0 +1,181 @@
+package com.platform.event.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.event.DomainEvent;
+import com.platform.event.broker.EventBroker;
+import com.platform.event.broker.PublishResult;
+import com.platform.event.domain.OutboxEvent;
+import com.platform.event.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves committed events from the outbox to the broker in batches. Rows are claimed with
+ * FOR UPDATE SKIP LOCKED and the accepted ones are marked published in the same transaction,
+ * so every instance can relay and an event is lost only if the broker loses it. A crash
+ * between the broker's ack and the commit sends the batch again.
+ * <p>
+ * Only the events the broker did not accept are retried, with exponential backoff. After
+ * events.retry.max-attempts an event is marked FAILED and left in the table as a dead letter,
+ * as the Kafka consumer's error handler gives up after the same number of attempts.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final EventBroker eventBroker;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolTaskExecutor outboxRelayExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${events.outbox.batch-size:500}")
+    private int batchSize = 500;
+
+    @Value("${events.retry.max-attempts:10}")
+    private int maxAttempts = 10;
+
+    @Value("${events.retry.initial-backoff-ms:1000}")
+    private long initialBackoffMs = 1000;
+
+    @Value("${events.retry.max-backoff-ms:60000}")
+    private long maxBackoffMs = 60000;
+
+    @Value("${events.outbox.retention-days:3}")
+    private long retentionDays = 3;
+
+    /**
+     * Catches events whose wake-up was missed, e.g. written by another instance or left over
+     * from a failed batch
+     */
+    @Scheduled(fixedDelayString = "${events.outbox.poll-interval-ms:1000}")
+    public void poll() {
+        wakeUp();
+    }
+
+    /**
+     * Relay pending events soon on the relay thread. A call while a relay run is already
+     * queued does nothing; that run picks up the new events too.
+     */
+    public void wakeUp() {
+        try {
+            outboxRelayExecutor.execute(this::drain);
+        } catch (TaskRejectedException e) {
+            // A run is already queued
+        }
+    }
+
+    private void drain() {
+        // Keep going while batches come back full
+        while (relayBatch() == batchSize) {
+            log.debug("Outbox batch full, relaying the next one");
+        }
+    }
+
+    private int relayBatch() {
+        try {
+            Integer relayed = transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                List<OutboxEvent> events = outboxEventRepository.lockUnpublished(now, batchSize);
+                if (events.isEmpty()) {
+                    return 0;
+                }
+
+                List<DomainEvent> domainEvents = new ArrayList<>(events.size());
+                Map<Long, String> unreadable = new HashMap<>();
+                for (OutboxEvent event : events) {
+                    try {
+                        domainEvents.add(toDomainEvent(event));
+                    } catch (IllegalStateException e) {
+                        unreadable.put(event.getId(), e.getMessage());
+                    }
+                }
+                PublishResult result = eventBroker.publish(domainEvents);
+
+                LocalDateTime finishedAt = LocalDateTime.now();
+                List<Long> published = new ArrayList<>();
+                for (OutboxEvent event : events) {
+                    if (unreadable.containsKey(event.getId())) {
+                        // Sending it again cannot help
+                        deadLetter(event, finishedAt, unreadable.get(event.getId()));
+                    } else if (result.getFailed().containsKey(event.getId())) {
+                        recordFailure(event, finishedAt, result.getFailed().get(event.getId()));
+                    } else if (result.isAccepted(event.getId())) {
+                        published.add(event.getId());
+                    }
+                    // Held-back events stay pending behind the failed event of their key
+                }
+                if (!published.isEmpty()) {
+                    outboxEventRepository.markPublished(published, finishedAt);
+                }
+                return events.size();
+            });
+            return relayed != null ? relayed : 0;
+        } catch (RuntimeException e) {
+            // Nothing was marked, so the claimed events are picked up again by the next poll
+            log.warn("Could not relay outbox events: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    private void recordFailure(OutboxEvent event, LocalDateTime now, String error) {
+        int attempts = event.getAttempts() + 1;
+        if (attempts >= maxAttempts) {
+            deadLetter(event, now, error);
+            return;
+        }
+        outboxEventRepository.markFailed(event.getId(), now, now.plus(backoff(attempts)), error);
+    }
+
+    private void deadLetter(OutboxEvent event, LocalDateTime now, String error) {
+        log.error("Giving up on outbox event {} ({}, key {}) after {} attempts: {}", event.getId(),
+                event.getEventType(), event.getEventKey(), event.getAttempts() + 1, error);
+        outboxEventRepository.markDead(event.getId(), now, error);
+    }
+
+    /**
+     * initial-backoff-ms doubled for each earlier attempt, capped at max-backoff-ms
+     */
+    private Duration backoff(int attempts) {
+        int doublings = Math.min(attempts - 1, 30);
+        return Duration.ofMillis(Math.min(initialBackoffMs << doublings, maxBackoffMs));
+    }
+
+    private DomainEvent toDomainEvent(OutboxEvent event) {
+        try {
+            return DomainEvent.builder()
+                    .id(event.getId())
+                    .type(event.getEventType())
+                    .key(event.getEventKey())
+                    .occurredAt(event.getCreatedAt())
+                    .payload(objectMapper.readTree(event.getPayload()))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable payload in outbox event " + event.getId(), e);
+        }
+    }
+
+    @Scheduled(cron = "${events.outbox.purge-cron:0 30 * * * *}")
+    public void purgePublished() {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minusDays(retentionDays)));
+        if (deleted != null && deleted > 0) {
+            log.info("Purged {} published outbox events", deleted);
+        }
+    }
+}
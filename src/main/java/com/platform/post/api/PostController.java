@@ -12,7 +12,11 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.platform.post.request.CreateCommentRequest;
 import com.platform.post.request.CreatePostRequest;
+import com.platform.post.response.CommentPageResponse;
+import com.platform.post.response.CommentResponse;
+import com.platform.post.response.FeedResponse;
 import com.platform.post.response.PostResponse;
 import com.platform.post.service.PostService;
 import com.platform.security.JwtTokenProvider;
@@ -59,23 +63,26 @@ public class PostController {
     }
 
     @GetMapping("/feed")
-    public ResponseEntity<List<PostResponse>> getFeed(@RequestParam(defaultValue = "0") int page,
-                                                     @RequestParam(defaultValue = "10") int size,
-                                                     HttpServletRequest httpRequest) {
+    public ResponseEntity<FeedResponse> getFeed(@RequestParam(required = false) String cursor,
+                                                @RequestParam(defaultValue = "0") int page,
+                                                @RequestParam(defaultValue = "10") int size,
+                                                HttpServletRequest httpRequest) {
         String token = extractToken(httpRequest);
         Long userId = Long.parseLong(jwtTokenProvider.getUserId(token));
         
-        List<PostResponse> posts = postService.getFeedPosts(userId, page, size);
-        return ResponseEntity.ok(posts);
+        FeedResponse feed = postService.getFeedPosts(userId, cursor, page, size);
+        return ResponseEntity.ok(feed);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<PostResponse>> searchPosts(@RequestParam String q, 
+    public ResponseEntity<List<PostResponse>> searchPosts(@RequestParam String q,
+                                                         @RequestParam(defaultValue = "0") int page,
+                                                         @RequestParam(defaultValue = "20") int size,
                                                          HttpServletRequest httpRequest) {
         String token = extractToken(httpRequest);
         Long userId = Long.parseLong(jwtTokenProvider.getUserId(token));
         
-        List<PostResponse> posts = postService.searchPosts(q, userId);
+        List<PostResponse> posts = postService.searchPosts(q, userId, page, size);
         return ResponseEntity.ok(posts);
     }
 
@@ -109,6 +116,36 @@ public class PostController {
         return ResponseEntity.ok(result);
     }
 
+    @PostMapping("/{postId}/comments")
+    public ResponseEntity<CommentResponse> addComment(@PathVariable Long postId,
+                                                      @RequestBody CreateCommentRequest request,
+                                                      HttpServletRequest httpRequest) {
+        String token = extractToken(httpRequest);
+        Long userId = Long.parseLong(jwtTokenProvider.getUserId(token));
+        
+        CommentResponse response = postService.addComment(postId, userId, request);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{postId}/comments")
+    public ResponseEntity<CommentPageResponse> getComments(@PathVariable Long postId,
+                                                           @RequestParam(required = false) String cursor,
+                                                           @RequestParam(defaultValue = "0") int page,
+                                                           @RequestParam(defaultValue = "20") int size) {
+        CommentPageResponse comments = postService.getComments(postId, cursor, page, size);
+        return ResponseEntity.ok(comments);
+    }
+
+    @DeleteMapping("/comments/{commentId}")
+    public ResponseEntity<Boolean> deleteComment(@PathVariable Long commentId,
+                                                 HttpServletRequest httpRequest) {
+        String token = extractToken(httpRequest);
+        Long userId = Long.parseLong(jwtTokenProvider.getUserId(token));
+        
+        boolean result = postService.deleteComment(commentId, userId);
+        return ResponseEntity.ok(result);
+    }
+
     private String extractToken(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
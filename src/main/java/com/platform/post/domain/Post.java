@@ -36,15 +36,18 @@ public class Post extends BaseEntity {
     @Column(columnDefinition = "TEXT")
     private String caption;
     
-    @Column(nullable = false)
-    private Long likesCount = 0L;
+    @Column(nullable = false, updatable = false)
+    private Long likesCount = 0L; // Only changed through PostCounterBuffer's relative updates
     
-    @Column(nullable = false)
-    private Long commentsCount = 0L;
+    @Column(nullable = false, updatable = false)
+    private Long commentsCount = 0L; // Only changed through PostCounterBuffer's relative updates
     
     @Column(nullable = false)
     private String location;
     
     @Column(nullable = false)
     private boolean isLikedByCurrentUser = false;
+    
+    @Column(nullable = false)
+    private boolean fannedOut = true; // false when followers pull this post on read instead of via home_timeline
 } 
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.platform.post.domain;
+
+import java.time.LocalDateTime;
+
+import com.platform.common.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "home_timeline")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TimelineEntry extends BaseEntity {
+    
+    @Column(nullable = false)
+    private Long userId; // Reader whose home timeline this entry belongs to
+    
+    @Column(nullable = false)
+    private Long postId;
+    
+    @Column(nullable = false)
+    private Long authorId;
+    
+    @Column(nullable = false)
+    private LocalDateTime postCreatedAt; // Copied from the post so pages are a range scan on this table
+}
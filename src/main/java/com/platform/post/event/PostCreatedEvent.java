@@ -0,0 +1,18 @@
+package com.platform.post.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Payload of EventTypes.POST_CREATED, keyed by post id
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostCreatedEvent {
+    private Long postId;
+    private Long userId;
+}
@@ -0,0 +1,40 @@
+package com.platform.post.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.event.DomainEvent;
+import com.platform.event.DomainEventListener;
+import com.platform.event.EventTypes;
+import com.platform.post.repository.PostRepository;
+import com.platform.post.service.TimelineService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Pushes new posts into follower timelines after the post is saved, so creating a post does
+ * not wait on the fan-out. Timeline inserts ignore duplicates, so redelivery is harmless.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TimelineFanOutListener implements DomainEventListener {
+
+    private final PostRepository postRepository;
+    private final TimelineService timelineService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Set<String> eventTypes() {
+        return Set.of(EventTypes.POST_CREATED);
+    }
+
+    @Override
+    public void onEvent(DomainEvent event) throws Exception {
+        PostCreatedEvent created = objectMapper.treeToValue(event.getPayload(), PostCreatedEvent.class);
+        postRepository.findById(created.getPostId()).ifPresentOrElse(
+                timelineService::fanOut,
+                () -> log.debug("Post {} was deleted before fan-out", created.getPostId()));
+    }
+}
@@ -1,7 +1,10 @@
 package com.platform.post.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -15,8 +18,38 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     
     List<Comment> findByPostIdOrderByCreatedAtDesc(Long postId);
     
+    // Both pages are served by idx_comment_post_created_at_id
+    // Offset and limit are separate so a page can read one row past its size
+    @Query(value = "SELECT * FROM comment WHERE post_id = :postId ORDER BY created_at DESC, id DESC " +
+                   "LIMIT :limit OFFSET :offset",
+           nativeQuery = true)
+    List<Comment> findPage(@Param("postId") Long postId, @Param("limit") int limit, @Param("offset") long offset);
+    
+    @Query("SELECT c FROM Comment c WHERE c.postId = :postId " +
+           "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findPageAfter(@Param("postId") Long postId,
+                                @Param("createdAt") LocalDateTime createdAt,
+                                @Param("id") Long id,
+                                Pageable pageable);
+    
+    // Newest `limit` comments of every given post; each post reads only its first `limit` entries
+    // of idx_comment_post_created_at_id instead of ranking all of its comments.
+    // ARRAY[...] because Hibernate expands the collection into a list of binds
+    @Query(value = "SELECT c.* FROM unnest(ARRAY[:postIds]) AS p(post_id) " +
+                   "CROSS JOIN LATERAL (SELECT * FROM comment WHERE comment.post_id = p.post_id " +
+                   "ORDER BY created_at DESC, id DESC LIMIT :limit) c " +
+                   "ORDER BY c.post_id, c.created_at DESC, c.id DESC",
+           nativeQuery = true)
+    List<Comment> findLatestByPostIds(@Param("postIds") Collection<Long> postIds, @Param("limit") int limit);
+    
     Long countByPostId(Long postId);
     
+    // Returns the rows deleted, so two concurrent deletes only count once
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id = :id")
+    int removeComment(@Param("id") Long id);
+    
     @Modifying
     @Query("DELETE FROM Comment c WHERE c.postId = :postId")
     void deleteByPostId(@Param("postId") Long postId);
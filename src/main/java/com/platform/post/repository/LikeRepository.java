@@ -1,5 +1,6 @@
 package com.platform.post.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,12 +19,23 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
     
     boolean existsByUserIdAndTargetIdAndTargetType(Long userId, Long targetId, String targetType);
     
+    // Which of the given targets the user has liked, in one round trip
+    @Query("SELECT l.targetId FROM Like l WHERE l.userId = :userId AND l.targetType = :targetType AND l.targetId IN :targetIds")
+    List<Long> findLikedTargetIds(@Param("userId") Long userId, 
+                                  @Param("targetIds") Collection<Long> targetIds, 
+                                  @Param("targetType") String targetType);
+    
     List<Like> findByTargetIdAndTargetType(Long targetId, String targetType);
     
     Long countByTargetIdAndTargetType(Long targetId, String targetType);
     
     void deleteByUserIdAndTargetIdAndTargetType(Long userId, Long targetId, String targetType);
     
+    // Returns the rows deleted, so two concurrent unlikes only count once
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.userId = :userId AND l.targetId = :targetId AND l.targetType = :targetType")
+    int removeLike(@Param("userId") Long userId, @Param("targetId") Long targetId, @Param("targetType") String targetType);
+    
     @Modifying
     @Query("DELETE FROM Like l WHERE l.targetId = :targetId AND l.targetType = :targetType")
     void deleteByTargetIdAndTargetType(@Param("targetId") Long targetId, @Param("targetType") String targetType);
@@ -0,0 +1,88 @@
+package com.platform.post.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Relative updates of the post counters. Each row is incremented in place, so concurrent
+ * writers and app instances never overwrite each other's counts.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostCounterRepository {
+    
+    private static final int BATCH_SIZE = 100;
+    
+    // The rows each counter counts, as (post_id, created_at)
+    private static final Map<String, String> SOURCES = Map.of(
+            "likes_count", "SELECT target_id AS post_id, created_at FROM like_entity WHERE target_type = 'POST'",
+            "comments_count", "SELECT post_id, created_at FROM comment");
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    /**
+     * Add each delta to the given counter column in JDBC batches, never going below zero.
+     * updated_at records the post's last counter activity, deletes included, for reconciliation.
+     * @param column a trusted column name, see PostCounterBuffer.Counter
+     */
+    public void addToCounter(String column, Map<Long, Long> deltasByPostId) {
+        if (deltasByPostId.isEmpty()) {
+            return;
+        }
+        
+        String sql = "UPDATE post SET " + column + " = GREATEST(" + column + " + ?, 0), updated_at = ? WHERE id = ?";
+        List<Map.Entry<Long, Long>> deltas = new ArrayList<>(deltasByPostId.entrySet());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now()); // Same clock as the entity timestamps
+        jdbcTemplate.batchUpdate(sql, deltas, BATCH_SIZE, (ps, delta) -> {
+            ps.setLong(1, delta.getValue());
+            ps.setTimestamp(2, now);
+            ps.setLong(3, delta.getKey());
+        });
+    }
+    
+    /**
+     * Posts active since {@code since} and quiet since {@code settledBefore}. A post is active when a
+     * flush touched it, or when it gained a row for the counter whose change may never have been
+     * flushed. It is quiet when neither happened since.
+     * @param column a trusted column name, see PostCounterBuffer.Counter
+     */
+    public List<Long> findSettledPostIds(String column, LocalDateTime since, LocalDateTime settledBefore, int limit) {
+        String source = SOURCES.get(column);
+        String sql = "SELECT p.id FROM post p WHERE p.updated_at < ? " +
+                     "AND (p.updated_at >= ? OR p.id IN (SELECT post_id FROM (" + source + ") s WHERE created_at >= ?)) " +
+                     "AND NOT EXISTS (SELECT 1 FROM (" + source + ") s WHERE s.post_id = p.id AND s.created_at >= ?) " +
+                     "LIMIT ?";
+        Timestamp settled = Timestamp.valueOf(settledBefore);
+        Timestamp from = Timestamp.valueOf(since);
+        return jdbcTemplate.queryForList(sql, Long.class, settled, from, from, settled, limit);
+    }
+    
+    /**
+     * Overwrite the counter of each post with a fresh count of its rows where the two differ;
+     * a post with no rows left counts zero
+     * @return number of posts corrected
+     */
+    public int recount(String column, Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return 0;
+        }
+        
+        String placeholders = String.join(", ", Collections.nCopies(postIds.size(), "?"));
+        String sql = "UPDATE post p SET " + column + " = c.actual FROM (" +
+                     "SELECT candidate.id, COUNT(s.post_id) AS actual FROM post candidate " +
+                     "LEFT JOIN (" + SOURCES.get(column) + ") s ON s.post_id = candidate.id " +
+                     "WHERE candidate.id IN (" + placeholders + ") GROUP BY candidate.id) c " +
+                     "WHERE p.id = c.id AND p." + column + " <> c.actual";
+        return jdbcTemplate.update(sql, postIds.toArray());
+    }
+}
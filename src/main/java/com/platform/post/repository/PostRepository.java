@@ -1,7 +1,9 @@
 package com.platform.post.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,8 +19,50 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query("SELECT p FROM Post p WHERE p.userId IN :userIds ORDER BY p.createdAt DESC")
     List<Post> findByUserIdsOrderByCreatedAtDesc(@Param("userIds") List<Long> userIds);
     
-    @Query("SELECT p FROM Post p WHERE p.caption LIKE %:searchTerm% OR p.userName LIKE %:searchTerm% ORDER BY p.createdAt DESC")
-    List<Post> searchPosts(@Param("searchTerm") String searchTerm);
+    // Posts that were not fanned out, by authors the user follows
+    @Query("SELECT p FROM Post p WHERE p.fannedOut = false AND p.userId IN " +
+           "(SELECT uc.userId FROM UserConnection uc WHERE uc.followerId = :userId) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findPullOnReadPage(@Param("userId") Long userId, Pageable pageable);
+    
+    @Query("SELECT p FROM Post p WHERE p.fannedOut = false AND p.userId IN " +
+           "(SELECT uc.userId FROM UserConnection uc WHERE uc.followerId = :userId) " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findPullOnReadPageAfter(@Param("userId") Long userId,
+                                       @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") Long id,
+                                       Pageable pageable);
+    
+    // Fanned-out posts by the user or authors they follow; reads past the trimmed end of home_timeline
+    @Query("SELECT p FROM Post p WHERE p.fannedOut = true AND (p.userId = :userId OR p.userId IN " +
+           "(SELECT uc.userId FROM UserConnection uc WHERE uc.followerId = :userId)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findFannedOutPage(@Param("userId") Long userId, Pageable pageable);
+    
+    @Query("SELECT p FROM Post p WHERE p.fannedOut = true AND (p.userId = :userId OR p.userId IN " +
+           "(SELECT uc.userId FROM UserConnection uc WHERE uc.followerId = :userId)) " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findFannedOutPageAfter(@Param("userId") Long userId,
+                                      @Param("createdAt") LocalDateTime createdAt,
+                                      @Param("id") Long id,
+                                      Pageable pageable);
+    
+    // Full-text match on caption and user name (GIN on search_vector) or a user name prefix (trigram GIN).
+    // Only the newest :candidates matches are ranked, so a common term costs the same however large the table gets.
+    @Query(value = "SELECT p.* FROM (SELECT * FROM post " +
+                   "WHERE search_vector @@ (websearch_to_tsquery('english', :term) || websearch_to_tsquery('simple', :term)) " +
+                   "OR lower(user_name) LIKE :userNamePrefix " +
+                   "ORDER BY id DESC LIMIT :candidates) p " +
+                   "ORDER BY ts_rank_cd(p.search_vector, websearch_to_tsquery('english', :term) || websearch_to_tsquery('simple', :term)) DESC NULLS LAST, " +
+                   "p.created_at DESC, p.id DESC LIMIT :limit OFFSET :offset",
+           nativeQuery = true)
+    List<Post> searchPosts(@Param("term") String term,
+                           @Param("userNamePrefix") String userNamePrefix,
+                           @Param("candidates") int candidates,
+                           @Param("limit") int limit,
+                           @Param("offset") int offset);
     
     @Query("SELECT COUNT(p) FROM Post p WHERE p.userId = :userId")
     Long countByUserId(@Param("userId") Long userId);
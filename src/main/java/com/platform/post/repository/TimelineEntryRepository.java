@@ -0,0 +1,94 @@
+package com.platform.post.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.platform.post.domain.Post;
+import com.platform.post.domain.TimelineEntry;
+
+@Repository
+public interface TimelineEntryRepository extends JpaRepository<TimelineEntry, Long> {
+    
+    @Query("SELECT p FROM TimelineEntry t JOIN Post p ON p.id = t.postId WHERE t.userId = :userId " +
+           "ORDER BY t.postCreatedAt DESC, t.postId DESC")
+    List<Post> findTimelinePage(@Param("userId") Long userId, Pageable pageable);
+    
+    @Query("SELECT p FROM TimelineEntry t JOIN Post p ON p.id = t.postId WHERE t.userId = :userId " +
+           "AND (t.postCreatedAt < :createdAt OR (t.postCreatedAt = :createdAt AND t.postId < :id)) " +
+           "ORDER BY t.postCreatedAt DESC, t.postId DESC")
+    List<Post> findTimelinePageAfter(@Param("userId") Long userId,
+                                     @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") Long id,
+                                     Pageable pageable);
+    
+    // Pushes the post into the timeline of every follower of the author and of the author themselves
+    @Modifying
+    @Query(value = "INSERT INTO home_timeline (user_id, post_id, author_id, post_created_at, created_at, updated_at) " +
+                   "SELECT readers.reader_id, :postId, :authorId, :postCreatedAt, now(), now() FROM (" +
+                   "SELECT uc.follower_id AS reader_id FROM user_connection uc " +
+                   "WHERE uc.user_id = :authorId AND uc.follower_id IS NOT NULL " +
+                   "UNION SELECT CAST(:authorId AS BIGINT)) readers " +
+                   "ON CONFLICT (user_id, post_id) DO NOTHING",
+           nativeQuery = true)
+    int fanOutToFollowers(@Param("postId") Long postId,
+                          @Param("authorId") Long authorId,
+                          @Param("postCreatedAt") LocalDateTime postCreatedAt);
+    
+    @Modifying
+    @Query(value = "INSERT INTO home_timeline (user_id, post_id, author_id, post_created_at, created_at, updated_at) " +
+                   "VALUES (:readerId, :postId, :authorId, :postCreatedAt, now(), now()) " +
+                   "ON CONFLICT (user_id, post_id) DO NOTHING",
+           nativeQuery = true)
+    int insertEntry(@Param("readerId") Long readerId,
+                    @Param("postId") Long postId,
+                    @Param("authorId") Long authorId,
+                    @Param("postCreatedAt") LocalDateTime postCreatedAt);
+    
+    // Copies the author's latest posts into one reader's timeline, e.g. right after a follow
+    @Modifying
+    @Query(value = "INSERT INTO home_timeline (user_id, post_id, author_id, post_created_at, created_at, updated_at) " +
+                   "SELECT :readerId, p.id, p.user_id, p.created_at, now(), now() FROM post p " +
+                   "WHERE p.user_id = :authorId ORDER BY p.created_at DESC, p.id DESC LIMIT :limit " +
+                   "ON CONFLICT (user_id, post_id) DO NOTHING",
+           nativeQuery = true)
+    int backfillFromAuthor(@Param("readerId") Long readerId,
+                           @Param("authorId") Long authorId,
+                           @Param("limit") int limit);
+    
+    // Drops everything past the newest `capacity` entries for the author's followers and the author
+    @Modifying
+    @Query(value = "DELETE FROM home_timeline ht USING (" +
+                   "SELECT readers.reader_id, cutoff.post_created_at, cutoff.post_id FROM (" +
+                   "SELECT uc.follower_id AS reader_id FROM user_connection uc " +
+                   "WHERE uc.user_id = :authorId AND uc.follower_id IS NOT NULL " +
+                   "UNION SELECT CAST(:authorId AS BIGINT)) readers " +
+                   "CROSS JOIN LATERAL (SELECT t.post_created_at, t.post_id FROM home_timeline t " +
+                   "WHERE t.user_id = readers.reader_id ORDER BY t.post_created_at DESC, t.post_id DESC " +
+                   "OFFSET :capacity LIMIT 1) cutoff) stale " +
+                   "WHERE ht.user_id = stale.reader_id " +
+                   "AND (ht.post_created_at < stale.post_created_at " +
+                   "OR (ht.post_created_at = stale.post_created_at AND ht.post_id <= stale.post_id))",
+           nativeQuery = true)
+    int trimReadersOfAuthor(@Param("authorId") Long authorId, @Param("capacity") int capacity);
+    
+    @Modifying
+    @Query(value = "DELETE FROM home_timeline ht USING (" +
+                   "SELECT t.post_created_at, t.post_id FROM home_timeline t WHERE t.user_id = :readerId " +
+                   "ORDER BY t.post_created_at DESC, t.post_id DESC OFFSET :capacity LIMIT 1) cutoff " +
+                   "WHERE ht.user_id = :readerId " +
+                   "AND (ht.post_created_at < cutoff.post_created_at " +
+                   "OR (ht.post_created_at = cutoff.post_created_at AND ht.post_id <= cutoff.post_id))",
+           nativeQuery = true)
+    int trimReader(@Param("readerId") Long readerId, @Param("capacity") int capacity);
+    
+    @Modifying
+    @Query("DELETE FROM TimelineEntry t WHERE t.postId = :postId")
+    void deleteByPostId(@Param("postId") Long postId);
+}
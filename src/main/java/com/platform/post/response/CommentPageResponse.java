@@ -0,0 +1,19 @@
+package com.platform.post.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommentPageResponse {
+    
+    private List<CommentResponse> comments;
+    private String nextCursor;
+    private boolean hasMore;
+}
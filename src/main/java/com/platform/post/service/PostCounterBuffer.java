@@ -0,0 +1,198 @@
+package com.platform.post.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.platform.post.repository.PostCounterRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Buffers post counter changes in memory and writes them as batched relative updates.
+ * Each post gets a LongAdder, so a viral post's likes spread over striped cells instead of
+ * all threads fighting over one row lock or one CAS. Counts in the database trail by up to
+ * one flush interval; pendingDelta lets responses include what is not flushed yet.
+ * <p>
+ * Flushing swaps in a fresh map and drains the old one. A writer that looked up the old map
+ * just before the swap may still add to it, so the old map is drained once more at the next
+ * flush before it is dropped. A writer that was stalled across both flushes notices the map is
+ * gone and moves its change to the current one.
+ * <p>
+ * Changes still buffered when an instance dies are lost, so counts can drift from the like and
+ * comment rows. A periodic reconciliation recounts recently active posts from those rows once
+ * every instance has flushed them.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostCounterBuffer {
+    
+    public enum Counter {
+        LIKES("likes_count"),
+        COMMENTS("comments_count");
+        
+        private final String column;
+        
+        Counter(String column) {
+            this.column = column;
+        }
+    }
+    
+    // Posts with activity this recent may still have changes buffered on some instance
+    private static final Duration RECONCILE_SETTLE_TIME = Duration.ofMinutes(1);
+    private static final int RECONCILE_BATCH_SIZE = 500;
+    
+    private final PostCounterRepository postCounterRepository;
+    
+    private final Map<Counter, Generations> counters = newGenerations();
+    
+    @Value("${post.counters.reconcile-window-minutes:60}")
+    private long reconcileWindowMinutes = 60;
+    
+    /**
+     * Add to a post's counter once the current transaction commits, or right away outside one
+     */
+    public void add(Counter counter, Long postId, long delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addNow(counter, postId, delta);
+                }
+            });
+        } else {
+            addNow(counter, postId, delta);
+        }
+    }
+    
+    void addNow(Counter counter, Long postId, long delta) {
+        Generations generations = counters.get(counter);
+        Map<Long, LongAdder> generation = generations.current;
+        LongAdder adder = generation.computeIfAbsent(postId, id -> new LongAdder());
+        adder.add(delta);
+        
+        if (generation != generations.current && generation != generations.retiring) {
+            // Two flushes ran since the lookup, so the map may have been drained for the last time.
+            // Cells are taken with getAndSet, so whatever is left here was not flushed: move it over.
+            long late = adder.sumThenReset();
+            if (late != 0) {
+                addNow(counter, postId, late);
+            }
+        }
+    }
+    
+    /**
+     * Change not yet written to the database for a post's counter
+     */
+    public long pendingDelta(Counter counter, Long postId) {
+        Generations generations = counters.get(counter);
+        return sum(generations.current.get(postId)) + sum(generations.retiring.get(postId));
+    }
+    
+    @Scheduled(fixedDelayString = "${post.counters.flush-interval-ms:1000}")
+    public void flush() {
+        for (Counter counter : Counter.values()) {
+            Map<Long, Long> deltas = drain(counter);
+            if (deltas.isEmpty()) {
+                continue;
+            }
+            
+            try {
+                postCounterRepository.addToCounter(counter.column, deltas);
+                log.debug("Flushed {} changes to {} posts", counter, deltas.size());
+            } catch (RuntimeException e) {
+                // Put the changes back so the next flush retries them
+                log.warn("Could not flush {} changes to {} posts: {}", counter, deltas.size(), e.getMessage());
+                deltas.forEach((postId, delta) -> addNow(counter, postId, delta));
+            }
+        }
+    }
+    
+    /**
+     * Take every pending change of a counter, leaving it empty
+     */
+    synchronized Map<Long, Long> drain(Counter counter) {
+        Generations generations = counters.get(counter);
+        Map<Long, LongAdder> previous = generations.retiring;
+        Map<Long, LongAdder> swapped = generations.current;
+        generations.retiring = swapped;
+        generations.current = new ConcurrentHashMap<>();
+        
+        Map<Long, Long> deltas = new HashMap<>();
+        collect(previous, deltas); // Late adds to the map swapped out last time
+        collect(swapped, deltas);
+        return deltas;
+    }
+    
+    /**
+     * Recount the posts whose counters changed, or that gained a like or comment, within the
+     * reconcile window and have been quiet since, correcting counts that lost buffered changes
+     * in a crash. Posts with changes still buffered here are left for the next run.
+     */
+    @Scheduled(fixedDelayString = "${post.counters.reconcile-interval-ms:300000}",
+               initialDelayString = "${post.counters.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        LocalDateTime now = LocalDateTime.now();
+        for (Counter counter : Counter.values()) {
+            try {
+                List<Long> postIds = postCounterRepository.findSettledPostIds(counter.column,
+                        now.minusMinutes(reconcileWindowMinutes), now.minus(RECONCILE_SETTLE_TIME), RECONCILE_BATCH_SIZE)
+                        .stream()
+                        .filter(postId -> pendingDelta(counter, postId) == 0)
+                        .toList();
+                int corrected = postCounterRepository.recount(counter.column, postIds);
+                if (corrected > 0) {
+                    log.warn("Corrected {} of {} posts whose {} drifted", corrected, postIds.size(), counter);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Could not reconcile {}: {}", counter, e.getMessage());
+            }
+        }
+    }
+    
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        flush(); // Drains the retiring generations as well
+    }
+    
+    private static void collect(Map<Long, LongAdder> adders, Map<Long, Long> deltas) {
+        adders.forEach((postId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                deltas.merge(postId, delta, Long::sum);
+            }
+        });
+    }
+    
+    private static Map<Counter, Generations> newGenerations() {
+        Map<Counter, Generations> generations = new EnumMap<>(Counter.class);
+        for (Counter counter : Counter.values()) {
+            generations.put(counter, new Generations());
+        }
+        return generations;
+    }
+    
+    private static long sum(LongAdder adder) {
+        return adder != null ? adder.sum() : 0;
+    }
+    
+    private static class Generations {
+        private volatile Map<Long, LongAdder> current = new ConcurrentHashMap<>();
+        private volatile Map<Long, LongAdder> retiring = new ConcurrentHashMap<>();
+    }
+}
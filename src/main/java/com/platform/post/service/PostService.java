@@ -2,7 +2,11 @@ package com.platform.post.service;
 
 import java.util.List;
 
+import com.platform.post.request.CreateCommentRequest;
 import com.platform.post.request.CreatePostRequest;
+import com.platform.post.response.CommentPageResponse;
+import com.platform.post.response.CommentResponse;
+import com.platform.post.response.FeedResponse;
 import com.platform.post.response.PostResponse;
 
 public interface PostService {
@@ -13,13 +17,19 @@ public interface PostService {
     
     List<PostResponse> getUserPosts(Long userId, Long currentUserId);
     
-    List<PostResponse> getFeedPosts(Long currentUserId, int page, int size);
+    FeedResponse getFeedPosts(Long currentUserId, String cursor, int page, int size);
     
-    List<PostResponse> searchPosts(String searchTerm, Long currentUserId);
+    List<PostResponse> searchPosts(String searchTerm, Long currentUserId, int page, int size);
     
     boolean likePost(Long postId, Long userId);
     
     boolean unlikePost(Long postId, Long userId);
     
     boolean deletePost(Long postId, Long userId);
+    
+    CommentResponse addComment(Long postId, Long userId, CreateCommentRequest request);
+    
+    CommentPageResponse getComments(Long postId, String cursor, int page, int size);
+    
+    boolean deleteComment(Long commentId, Long userId);
 } 
\ No newline at end of file
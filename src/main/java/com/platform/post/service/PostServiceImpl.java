@@ -1,23 +1,36 @@
 package com.platform.post.service;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.platform.common.search.SearchPage;
+import com.platform.event.EventTypes;
+import com.platform.event.service.EventPublisher;
 import com.platform.notification.service.NotificationService;
 import com.platform.post.domain.Comment;
 import com.platform.post.domain.Like;
 import com.platform.post.domain.Post;
+import com.platform.post.event.PostCreatedEvent;
 import com.platform.post.repository.CommentRepository;
 import com.platform.post.repository.LikeRepository;
 import com.platform.post.repository.PostRepository;
+import com.platform.post.request.CreateCommentRequest;
 import com.platform.post.request.CreatePostRequest;
+import com.platform.post.response.CommentPageResponse;
 import com.platform.post.response.CommentResponse;
+import com.platform.post.response.FeedResponse;
 import com.platform.post.response.PostResponse;
 import com.platform.user.domain.User;
 import com.platform.user.service.UserService;
@@ -28,11 +41,27 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class PostServiceImpl implements PostService {
 
+    private static final int MAX_FEED_PAGE_SIZE = 50;
+    private static final int MAX_COMMENT_PAGE_SIZE = 50;
+    private static final int MAX_COMMENT_PREVIEW_SIZE = 10;
+
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
     private final LikeRepository likeRepository;
     private final UserService userService;
     private final NotificationService notificationService;
+    private final TimelineService timelineService;
+    private final EventPublisher eventPublisher;
+    private final PostCounterBuffer postCounterBuffer;
+
+    @Value("${post.comments.preview-size:3}")
+    private int commentPreviewSize;
+
+    @Value("${post.comments.preview-max-length:280}")
+    private int commentPreviewMaxLength;
+
+    @Value("${search.max-candidates:1000}")
+    private int searchMaxCandidates;
 
     @Override
     @Transactional
@@ -50,9 +79,15 @@ public class PostServiceImpl implements PostService {
                 .likesCount(0L)
                 .commentsCount(0L)
                 .isLikedByCurrentUser(false)
+                .fannedOut(!timelineService.isPullOnReadAuthor(userId))
                 .build();
         
         post = postRepository.save(post);
+        // Timelines are filled by TimelineFanOutListener once this commits
+        eventPublisher.publish(EventTypes.POST_CREATED, post.getId(), PostCreatedEvent.builder()
+                .postId(post.getId())
+                .userId(userId)
+                .build());
         return convertToResponse(post, userId);
     }
 
@@ -61,58 +96,50 @@ public class PostServiceImpl implements PostService {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new RuntimeException("Post not found"));
         
-        boolean isLiked = likeRepository.existsByUserIdAndTargetIdAndTargetType(
-                currentUserId, postId, "POST");
-        post.setLikedByCurrentUser(isLiked);
-        
         return convertToResponse(post, currentUserId);
     }
 
     @Override
     public List<PostResponse> getUserPosts(Long userId, Long currentUserId) {
         List<Post> posts = postRepository.findByUserIdOrderByCreatedAtDesc(userId);
-        return posts.stream()
-                .map(post -> {
-                    boolean isLiked = likeRepository.existsByUserIdAndTargetIdAndTargetType(
-                            currentUserId, post.getId(), "POST");
-                    post.setLikedByCurrentUser(isLiked);
-                    return convertToResponse(post, currentUserId);
-                })
-                .collect(Collectors.toList());
+        return convertToResponses(posts, currentUserId);
     }
 
     @Override
-    public List<PostResponse> getFeedPosts(Long currentUserId, int page, int size) {
-        List<Long> followingUserIds = userService.getUserConnections(currentUserId, false)
-                .stream()
-                .map(conn -> conn.getConnectionId())
-                .collect(Collectors.toList());
+    public FeedResponse getFeedPosts(Long currentUserId, String cursor, int page, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_FEED_PAGE_SIZE);
+        KeysetCursor after = KeysetCursor.decode(cursor);
         
-        followingUserIds.add(currentUserId);
+        // Offset paging is kept for clients that still send page numbers; the returned cursor lets them switch.
+        // One row past the page tells whether another page exists.
+        long offset = after != null ? 0 : (long) Math.max(page, 0) * pageSize; // A long, so huge page numbers cannot wrap negative
+        List<Post> posts = timelineService.getTimelinePage(currentUserId, after, offset, pageSize + 1);
+        boolean hasMore = posts.size() > pageSize;
+        if (hasMore) {
+            posts = posts.subList(0, pageSize);
+        }
         
-        List<Post> posts = postRepository.findByUserIdsOrderByCreatedAtDesc(followingUserIds);
+        List<PostResponse> responses = convertToResponses(posts, currentUserId);
+        Post last = posts.isEmpty() ? null : posts.get(posts.size() - 1);
         
-        return posts.stream()
-                .map(post -> {
-                    boolean isLiked = likeRepository.existsByUserIdAndTargetIdAndTargetType(
-                            currentUserId, post.getId(), "POST");
-                    post.setLikedByCurrentUser(isLiked);
-                    return convertToResponse(post, currentUserId);
-                })
-                .collect(Collectors.toList());
+        return FeedResponse.builder()
+                .posts(responses)
+                .nextCursor(hasMore ? KeysetCursor.of(last.getCreatedAt(), last.getId()).encode() : null)
+                .hasMore(hasMore)
+                .build();
     }
 
     @Override
-    public List<PostResponse> searchPosts(String searchTerm, Long currentUserId) {
-        List<Post> posts = postRepository.searchPosts(searchTerm);
-        return posts.stream()
-                .map(post -> {
-                    boolean isLiked = likeRepository.existsByUserIdAndTargetIdAndTargetType(
-                            currentUserId, post.getId(), "POST");
-                    post.setLikedByCurrentUser(isLiked);
-                    return convertToResponse(post, currentUserId);
-                })
-                .collect(Collectors.toList());
+    public List<PostResponse> searchPosts(String searchTerm, Long currentUserId, int page, int size) {
+        SearchPage searchPage = SearchPage.of(searchTerm, page, size, searchMaxCandidates).orElse(null);
+        if (searchPage == null) {
+            return new ArrayList<>();
+        }
+        
+        String userNamePrefix = escapeLike(searchPage.getTerm().toLowerCase(Locale.ROOT)) + "%";
+        List<Post> posts = postRepository.searchPosts(searchPage.getTerm(), userNamePrefix, searchMaxCandidates,
+                searchPage.getLimit(), searchPage.getOffset());
+        return convertToResponses(posts, currentUserId);
     }
 
     @Override
@@ -137,9 +164,7 @@ public class PostServiceImpl implements PostService {
                 .build();
         
         likeRepository.save(like);
-        
-        post.setLikesCount(post.getLikesCount() + 1);
-        postRepository.save(post);
+        postCounterBuffer.add(PostCounterBuffer.Counter.LIKES, postId, 1);
         
         if (!post.getUserId().equals(userId)) {
             notificationService.createNotification(
@@ -154,18 +179,15 @@ public class PostServiceImpl implements PostService {
     @Override
     @Transactional
     public boolean unlikePost(Long postId, Long userId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new RuntimeException("Post not found"));
+        if (!postRepository.existsById(postId)) {
+            throw new RuntimeException("Post not found");
+        }
         
-        if (!likeRepository.existsByUserIdAndTargetIdAndTargetType(userId, postId, "POST")) {
+        if (likeRepository.removeLike(userId, postId, "POST") == 0) {
             return false;
         }
         
-        likeRepository.deleteByUserIdAndTargetIdAndTargetType(userId, postId, "POST");
-        
-        post.setLikesCount(Math.max(0, post.getLikesCount() - 1));
-        postRepository.save(post);
-        
+        postCounterBuffer.add(PostCounterBuffer.Counter.LIKES, postId, -1);
         return true;
     }
 
@@ -181,22 +203,145 @@ public class PostServiceImpl implements PostService {
         
         likeRepository.deleteByTargetIdAndTargetType(postId, "POST");
         commentRepository.deleteByPostId(postId);
+        timelineService.removePost(postId);
         postRepository.delete(post);
         
         return true;
     }
 
+    @Override
+    @Transactional
+    public CommentResponse addComment(Long postId, Long userId, CreateCommentRequest request) {
+        if (request.getContent() == null || request.getContent().isBlank()) {
+            throw new RuntimeException("Comment content is required");
+        }
+        
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new RuntimeException("Post not found"));
+        
+        User user = userService.getUserByUserId(userId);
+        
+        Comment comment = Comment.builder()
+                .postId(postId)
+                .userId(userId)
+                .userName(user.getUserName())
+                .userFullName(user.getFullName())
+                .userProfilePhoto(null)
+                .content(request.getContent().trim())
+                .likesCount(0L)
+                .isLikedByCurrentUser(false)
+                .build();
+        
+        comment = commentRepository.save(comment);
+        postCounterBuffer.add(PostCounterBuffer.Counter.COMMENTS, postId, 1);
+        
+        if (!post.getUserId().equals(userId)) {
+            notificationService.createNotification(
+                    post.getUserId(), userId, "COMMENT", 
+                    user.getUserName() + " commented on your post", 
+                    postId, "POST", "/post/" + postId);
+        }
+        
+        return convertCommentToResponse(comment);
+    }
+
+    @Override
+    public CommentPageResponse getComments(Long postId, String cursor, int page, int size) {
+        if (!postRepository.existsById(postId)) {
+            throw new RuntimeException("Post not found");
+        }
+        
+        int pageSize = Math.min(Math.max(size, 1), MAX_COMMENT_PAGE_SIZE);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        
+        // Offset paging is kept for clients that still send page numbers; the returned cursor lets them switch.
+        // One row past the page tells whether another page exists.
+        List<Comment> comments = after != null
+                ? commentRepository.findPageAfter(postId, after.getCreatedAt(), after.getId(), PageRequest.of(0, pageSize + 1))
+                : commentRepository.findPage(postId, pageSize + 1, (long) Math.max(page, 0) * pageSize);
+        
+        boolean hasMore = comments.size() > pageSize;
+        if (hasMore) {
+            comments = comments.subList(0, pageSize);
+        }
+        Comment last = comments.isEmpty() ? null : comments.get(comments.size() - 1);
+        
+        return CommentPageResponse.builder()
+                .comments(comments.stream().map(this::convertCommentToResponse).collect(Collectors.toList()))
+                .nextCursor(hasMore ? KeysetCursor.of(last.getCreatedAt(), last.getId()).encode() : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public boolean deleteComment(Long commentId, Long userId) {
+        Comment comment = commentRepository.findById(commentId)
+                .orElseThrow(() -> new RuntimeException("Comment not found"));
+        
+        // The comment's author and the post's owner may both remove it
+        boolean postOwner = postRepository.findById(comment.getPostId())
+                .map(post -> post.getUserId().equals(userId))
+                .orElse(false);
+        if (!comment.getUserId().equals(userId) && !postOwner) {
+            throw new RuntimeException("Unauthorized to delete this comment");
+        }
+        
+        if (commentRepository.removeComment(commentId) == 0) {
+            return false;
+        }
+        
+        likeRepository.deleteByTargetIdAndTargetType(commentId, "COMMENT");
+        postCounterBuffer.add(PostCounterBuffer.Counter.COMMENTS, comment.getPostId(), -1);
+        return true;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
     private PostResponse convertToResponse(Post post, Long currentUserId) {
-        PostResponse response = new PostResponse();
-        BeanUtils.copyProperties(post, response);
+        return convertToResponses(List.of(post), currentUserId).get(0);
+    }
+
+    /**
+     * Hydrates a page of posts with like state and a comment preview using one
+     * query for each, so the cost does not grow with the number of posts.
+     * The preview is capped in count and length, so a busy post costs no more to
+     * send than a quiet one; the full thread is read through getComments.
+     */
+    private List<PostResponse> convertToResponses(List<Post> posts, Long currentUserId) {
+        if (posts.isEmpty()) {
+            return new ArrayList<>();
+        }
         
-        List<Comment> comments = commentRepository.findByPostIdOrderByCreatedAtDesc(post.getId());
-        List<CommentResponse> commentResponses = comments.stream()
-                .map(this::convertCommentToResponse)
+        List<Long> postIds = posts.stream()
+                .map(Post::getId)
                 .collect(Collectors.toList());
         
-        response.setComments(commentResponses);
-        return response;
+        Set<Long> likedPostIds = new HashSet<>(
+                likeRepository.findLikedTargetIds(currentUserId, postIds, "POST"));
+        
+        int previewSize = Math.min(commentPreviewSize, MAX_COMMENT_PREVIEW_SIZE);
+        Map<Long, List<CommentResponse>> commentsByPostId = previewSize <= 0 ? Map.of() : commentRepository
+                .findLatestByPostIds(postIds, previewSize)
+                .stream()
+                .collect(Collectors.groupingBy(Comment::getPostId,
+                        Collectors.mapping(this::convertPreviewCommentToResponse, Collectors.toList())));
+        
+        return posts.stream()
+                .map(post -> {
+                    PostResponse response = new PostResponse();
+                    BeanUtils.copyProperties(post, response);
+                    response.setLikesCount(post.getLikesCount()
+                            + postCounterBuffer.pendingDelta(PostCounterBuffer.Counter.LIKES, post.getId()));
+                    response.setCommentsCount(post.getCommentsCount()
+                            + postCounterBuffer.pendingDelta(PostCounterBuffer.Counter.COMMENTS, post.getId()));
+                    response.setLikedByCurrentUser(likedPostIds.contains(post.getId()));
+                    response.setComments(commentsByPostId.getOrDefault(post.getId(), new ArrayList<>()));
+                    return response;
+                })
+                .collect(Collectors.toList());
     }
 
     private CommentResponse convertCommentToResponse(Comment comment) {
@@ -204,4 +349,18 @@ public class PostServiceImpl implements PostService {
         BeanUtils.copyProperties(comment, response);
         return response;
     }
+
+    private CommentResponse convertPreviewCommentToResponse(Comment comment) {
+        CommentResponse response = convertCommentToResponse(comment);
+        String content = response.getContent();
+        int maxLength = Math.max(commentPreviewMaxLength, 1); // At least one character before the ellipsis
+        if (content != null && content.length() > maxLength) {
+            int end = maxLength;
+            if (Character.isHighSurrogate(content.charAt(end - 1))) {
+                end--; // Do not split a surrogate pair
+            }
+            response.setContent(content.substring(0, end) + "…");
+        }
+        return response;
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.platform.post.service;
+
+import java.util.List;
+
+import com.platform.post.domain.Post;
+
+public interface TimelineService {
+    
+    /**
+     * Whether posts by this author are too widely followed to fan out and are pulled on read instead
+     */
+    boolean isPullOnReadAuthor(Long authorId);
+    
+    /**
+     * Push a freshly saved post into its readers' home timelines
+     */
+    void fanOut(Post post);
+    
+    /**
+     * Seed a reader's timeline with an author's recent posts after a new follow
+     */
+    void backfill(Long readerId, Long authorId);
+    
+    /**
+     * Remove a deleted post from every timeline
+     */
+    void removePost(Long postId);
+    
+    /**
+     * Read up to {@code limit} posts of a user's home timeline, newest first, starting right
+     * after the cursor or, without one, after skipping {@code offset} posts. Offsets at or past
+     * the timeline capacity read nothing; cursors continue past it.
+     */
+    List<Post> getTimelinePage(Long userId, KeysetCursor after, long offset, int limit);
+}
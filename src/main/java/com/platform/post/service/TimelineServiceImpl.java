@@ -0,0 +1,152 @@
+package com.platform.post.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.platform.post.domain.Post;
+import com.platform.post.repository.PostRepository;
+import com.platform.post.repository.TimelineEntryRepository;
+import com.platform.user.repository.UserConnectionRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fan-out-on-write home timelines. Each reader keeps a bounded list of post ids in
+ * home_timeline; authors with more than the configured number of followers are
+ * not fanned out and their posts are merged in at read time instead. Past the end of the
+ * bounded list, fanned-out posts are read from post itself, so old posts never drop out.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TimelineServiceImpl implements TimelineService {
+
+    private static final Comparator<Post> NEWEST_FIRST = Comparator
+            .comparing(Post::getCreatedAt, Comparator.reverseOrder())
+            .thenComparing(Post::getId, Comparator.reverseOrder());
+
+    private final TimelineEntryRepository timelineEntryRepository;
+    private final PostRepository postRepository;
+    private final UserConnectionRepository userConnectionRepository;
+
+    @Value("${post.timeline.capacity:500}")
+    private int timelineCapacity;
+
+    @Value("${post.timeline.fan-out-follower-limit:10000}")
+    private long fanOutFollowerLimit;
+
+    @Override
+    public boolean isPullOnReadAuthor(Long authorId) {
+        return userConnectionRepository.countByUserId(authorId) > fanOutFollowerLimit;
+    }
+
+    @Override
+    @Transactional
+    public void fanOut(Post post) {
+        if (post.isFannedOut()) {
+            int readers = timelineEntryRepository.fanOutToFollowers(post.getId(), post.getUserId(), post.getCreatedAt());
+            timelineEntryRepository.trimReadersOfAuthor(post.getUserId(), timelineCapacity);
+            log.debug("Fanned out post {} to {} timelines", post.getId(), readers);
+        } else {
+            // Followers pull this author's posts on read; the author still sees their own post
+            timelineEntryRepository.insertEntry(post.getUserId(), post.getId(), post.getUserId(), post.getCreatedAt());
+            timelineEntryRepository.trimReader(post.getUserId(), timelineCapacity);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void backfill(Long readerId, Long authorId) {
+        if (isPullOnReadAuthor(authorId)) {
+            return;
+        }
+        
+        timelineEntryRepository.backfillFromAuthor(readerId, authorId, timelineCapacity);
+        timelineEntryRepository.trimReader(readerId, timelineCapacity);
+    }
+
+    @Override
+    @Transactional
+    public void removePost(Long postId) {
+        timelineEntryRepository.deleteByPostId(postId);
+    }
+
+    @Override
+    public List<Post> getTimelinePage(Long userId, KeysetCursor after, long offset, int limit) {
+        // Legacy offset pages read the prefix and slice, so they stop at the timeline's capacity
+        // rather than reading an unbounded prefix; only a cursor pages past it
+        if (after == null && offset >= timelineCapacity) {
+            return new ArrayList<>();
+        }
+        
+        // With a cursor both sources start right after it
+        int skip = after != null ? 0 : (int) offset;
+        Pageable window = PageRequest.of(0, skip + limit);
+        
+        List<Post> fannedOut;
+        List<Post> pulled;
+        if (after != null) {
+            fannedOut = timelineEntryRepository.findTimelinePageAfter(userId, after.getCreatedAt(), after.getId(), window);
+            pulled = postRepository.findPullOnReadPageAfter(userId, after.getCreatedAt(), after.getId(), window);
+        } else {
+            fannedOut = timelineEntryRepository.findTimelinePage(userId, window);
+            pulled = postRepository.findPullOnReadPage(userId, window);
+        }
+        if (fannedOut.size() < window.getPageSize()) {
+            fannedOut = withOlderFannedOut(userId, after, fannedOut, window.getPageSize() - fannedOut.size());
+        }
+        
+        if (pulled.isEmpty()) {
+            return slice(fannedOut, skip, limit);
+        }
+        
+        Map<Long, Post> merged = new LinkedHashMap<>();
+        fannedOut.forEach(post -> merged.putIfAbsent(post.getId(), post));
+        pulled.forEach(post -> merged.putIfAbsent(post.getId(), post));
+        
+        List<Post> posts = new ArrayList<>(merged.values());
+        posts.sort(NEWEST_FIRST);
+        return slice(posts, skip, limit);
+    }
+
+    /**
+     * home_timeline is trimmed to its capacity, so once it runs out the rest of the fanned-out
+     * posts continue on post, right after the last timeline entry read or the cursor
+     */
+    private List<Post> withOlderFannedOut(Long userId, KeysetCursor after, List<Post> fannedOut, int missing) {
+        Pageable rest = PageRequest.of(0, missing);
+        List<Post> older;
+        if (!fannedOut.isEmpty()) {
+            Post last = fannedOut.get(fannedOut.size() - 1);
+            older = postRepository.findFannedOutPageAfter(userId, last.getCreatedAt(), last.getId(), rest);
+        } else if (after != null) {
+            older = postRepository.findFannedOutPageAfter(userId, after.getCreatedAt(), after.getId(), rest);
+        } else {
+            older = postRepository.findFannedOutPage(userId, rest);
+        }
+        if (older.isEmpty()) {
+            return fannedOut;
+        }
+        
+        List<Post> posts = new ArrayList<>(fannedOut);
+        posts.addAll(older);
+        return posts;
+    }
+
+    private List<Post> slice(List<Post> posts, int offset, int limit) {
+        if (offset >= posts.size()) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(posts.subList(offset, Math.min(posts.size(), offset + limit)));
+    }
+}
@@ -1,46 +1,126 @@
 package com.platform.scrapper;
 
+import com.platform.scrapper.browser.BrowserPage;
+import com.platform.scrapper.browser.BrowserPageSettings;
+import com.platform.scrapper.browser.WebDriverPool;
+import com.platform.scrapper.dedupe.UrlCanonicalizer;
+import com.platform.scrapper.extract.CardExtractor;
+import com.platform.scrapper.extract.ListingHash;
+import com.platform.scrapper.extract.PublishDateNormalizer;
+import com.platform.scrapper.extract.SelectorPlan;
+import com.platform.scrapper.extract.SiteProfile;
+import com.platform.scrapper.extract.SiteVariant;
+import com.platform.scrapper.extract.StreamingCardExtractor;
+import com.platform.scrapper.fetch.FetchMode;
+import com.platform.scrapper.fetch.FetchedPage;
+import com.platform.scrapper.fetch.PageFetcher;
+import com.platform.scrapper.fetch.PageValidators;
+import com.platform.scrapper.fetch.StaticPageFetcher;
+import com.platform.scrapper.fetch.replay.PageSnapshot;
+import com.platform.scrapper.fetch.replay.PageSnapshotStore;
+import com.platform.scrapper.politeness.HostPoliteness;
 import lombok.Builder;
 import lombok.Data;
+import lombok.RequiredArgsConstructor;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 
 @Component
+@RequiredArgsConstructor
 public class BlogScraper {
 
+    private final WebDriverPool webDriverPool;
+    private final PageFetcher pageFetcher;
+    private final HostPoliteness hostPoliteness;
+    private final BrowserPageSettings browserPageSettings;
+    private final PageSnapshotStore snapshotStore;
+
+    // Browser-rendered sites are re-probed with a static fetch after this long
+    @Value("${blog.scraper.fetch.static-reprobe-hours:24}")
+    private long staticReprobeHours = 24;
+
+    private final Map<String, LearnedFetchMode> learnedFetchModes = new ConcurrentHashMap<>();
+
     @Builder
     @Data
     public static class BlogPost {
         public String blogTitle;
         public String originalLink;
+        public String canonicalLink; // Dedupe key from UrlCanonicalizer; null when the card had no link of its own
         public String author;
-        public String publishDate;
+        public String publishDate; // Date text as shown on the listing
+        public Instant publishedAt; // Parsed publishDate, null when unrecognised
         public String readTime;
         public String excerpt;
     }
 
+    /**
+     * Outcome of scraping one website
+     */
+    @Data
+    @Builder
+    public static class ScrapeResult {
+        private List<BlogPost> blogPosts;
+        private boolean unchanged; // Page matched the previous validators; nothing was extracted
+        private PageValidators validators;
+        private String containerSelector; // Card selector that matched, when the posts came from one
+        private boolean truncated; // Streaming stopped before the end of the page
+
+        public static ScrapeResult unchanged(PageValidators validators) {
+            return ScrapeResult.builder().blogPosts(new ArrayList<>()).unchanged(true).validators(validators).build();
+        }
+
+        public static ScrapeResult changed(List<BlogPost> blogPosts, PageValidators validators) {
+            return ScrapeResult.builder().blogPosts(blogPosts).unchanged(false).validators(validators).build();
+        }
+    }
+
+    /**
+     * When a streamed listing may stop early. Listings are assumed newest first, so a run of
+     * already known posts means the rest of the page has been seen before.
+     */
+    @Data
+    @Builder
+    public static class StreamLimit {
+        private int maxNewPosts; // 0 for no limit
+        private int knownRun; // Consecutive known posts that end the scrape; 0 never stops on known posts
+        private Predicate<BlogPost> known;
+
+        public static final StreamLimit NONE = StreamLimit.builder().build();
+
+        private boolean isKnown(BlogPost post) {
+            return known != null && known.test(post);
+        }
+    }
+
     @PostConstruct
     public void initialize() {
         System.out.println("=== Blog Scraper Initialized ===");
     }
 
     /**
-     * Removes duplicate blog posts based on URL
+     * Removes duplicate blog posts based on their canonical URL
      * @param blogPosts List of blog posts that may contain duplicates
      * @return List of unique blog posts
      */
@@ -54,8 +134,9 @@ public class BlogScraper {
         
         for (BlogPost post : blogPosts) {
             if (post != null && post.getOriginalLink() != null && !post.getOriginalLink().isEmpty()) {
-                // Use the original link as the key to identify duplicates
-                uniquePosts.putIfAbsent(post.getOriginalLink(), post);
+                // Tracking parameters and Medium's alternate post URLs don't make a post distinct
+                String key = post.getCanonicalLink() != null ? post.getCanonicalLink() : post.getOriginalLink();
+                uniquePosts.putIfAbsent(key, post);
             }
         }
         
@@ -68,7 +149,7 @@ public class BlogScraper {
      * @param websiteList List of website URLs to scrape
      * @return List of BlogPost objects containing blog_title and original_link
      */
-    public static List<BlogPost> scrapeBlogsFromWebsites(List<String> websiteList) {
+    public List<BlogPost> scrapeBlogsFromWebsites(List<String> websiteList) {
         List<BlogPost> allBlogPosts = new ArrayList<>();
         
         for (String websiteUrl : websiteList) {
@@ -90,18 +171,203 @@ public class BlogScraper {
      * @param websiteUrl The URL of the website to scrape
      * @return List of BlogPost objects
      */
-    public static List<BlogPost> scrapeBlogsFromWebsite(String websiteUrl) {
-        List<BlogPost> blogPosts = new ArrayList<>();
+    public List<BlogPost> scrapeBlogsFromWebsite(String websiteUrl) {
+        return scrape(websiteUrl, null, SiteProfile.defaultFor(websiteUrl)).getBlogPosts();
+    }
+
+    /**
+     * Scrapes a website, skipping extraction when the page is unchanged since {@code previous}.
+     * Uses the profile's fetch mode when it sets one. Otherwise tries a plain HTTP fetch first
+     * and only renders through the browser when static extraction finds nothing; the outcome
+     * is remembered per website.
+     * @param websiteUrl The URL of the website to scrape
+     * @param previous Validators from the last scrape, or null
+     * @param profile Extraction profile for the website
+     */
+    public ScrapeResult scrape(String websiteUrl, PageValidators previous, SiteProfile profile) {
+        return scrape(websiteUrl, previous, profile, null);
+    }
+
+    /**
+     * Like {@link #scrape(String, PageValidators, SiteProfile)}, but a static fetch with a
+     * single container selector is parsed as it downloads and stops at {@code limit}
+     * @param limit When to stop reading a streamed page, or null to always parse whole pages
+     */
+    public ScrapeResult scrape(String websiteUrl, PageValidators previous, SiteProfile profile, StreamLimit limit) {
+        try {
+            if (!hostPoliteness.isAllowed(websiteUrl)) {
+                System.out.println("Skipping " + websiteUrl + ": disallowed by robots.txt");
+                return ScrapeResult.changed(new ArrayList<>(), null);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ScrapeResult.changed(new ArrayList<>(), null);
+        }
+        
+        // Replayed pages include rendered ones, so replay never needs the browser
+        if (profile.getFetchMode() == FetchMode.STATIC || snapshotStore.getMode() == PageSnapshotStore.Mode.REPLAY) {
+            ScrapeResult result = scrapeStatic(websiteUrl, previous, profile, limit);
+            return result != null ? result : ScrapeResult.changed(new ArrayList<>(), null);
+        }
+        if (profile.getFetchMode() == FetchMode.BROWSER) {
+            return scrapeWithBrowser(websiteUrl, previous, profile);
+        }
         
-        ChromeOptions options = new ChromeOptions();
-        options.addArguments("--headless", "--no-sandbox", "--disable-dev-shm-usage", "--disable-gpu", "--window-size=1920,1080");
-        options.addArguments("--user-agent=Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/115 Safari/537.36");
+        LearnedFetchMode learned = learnedFetchModes.get(websiteUrl);
+        boolean tryStatic = learned == null || learned.mode == FetchMode.STATIC
+                || learned.decidedAt.plus(staticReprobeInterval()).isBefore(Instant.now());
         
-        WebDriver driver = new ChromeDriver(options);
+        if (tryStatic) {
+            ScrapeResult result = scrapeStatic(websiteUrl, previous, profile, limit);
+            if (result != null) {
+                learnedFetchModes.put(websiteUrl, new LearnedFetchMode(FetchMode.STATIC, Instant.now()));
+                return result;
+            }
+        }
+        
+        ScrapeResult result = scrapeWithBrowser(websiteUrl, previous, profile);
+        if (result.isUnchanged() || !result.getBlogPosts().isEmpty()) {
+            learnedFetchModes.put(websiteUrl, new LearnedFetchMode(FetchMode.BROWSER, Instant.now()));
+        }
+        return result;
+    }
+
+    /**
+     * @return the result, or null when the static path found nothing and the browser should be tried
+     */
+    private ScrapeResult scrapeStatic(String websiteUrl, PageValidators previous, SiteProfile profile, StreamLimit limit) {
+        if (limit != null && StreamingCardExtractor.supports(profile.getPlan())) {
+            ScrapeResult result = scrapeStaticStreaming(websiteUrl, previous, profile, limit);
+            if (result != null) {
+                return result;
+            }
+            // The stored container selector matched nothing; probe the whole page instead
+        }
         
         try {
+            FetchedPage page;
+            try (HostPoliteness.Permit permit = hostPoliteness.acquire(websiteUrl)) {
+                page = pageFetcher.fetch(websiteUrl, previous);
+            }
+            if (page == null) {
+                return null;
+            }
+            
+            if (page.isNotModified()) {
+                return ScrapeResult.unchanged(PageValidators.builder()
+                        .etag(page.getEtag() != null ? page.getEtag() : previous.getEtag())
+                        .lastModified(page.getLastModified() != null ? page.getLastModified() : previous.getLastModified())
+                        .contentHash(previous.getContentHash())
+                        .build());
+            }
+            
+            Document doc = Jsoup.parse(page.getHtml(), websiteUrl);
+            PageValidators validators = PageValidators.builder()
+                    .etag(page.getEtag())
+                    .lastModified(page.getLastModified())
+                    .contentHash(ListingHash.of(doc))
+                    .build();
+            if (previous != null && validators.getContentHash().equals(previous.getContentHash())) {
+                return ScrapeResult.unchanged(validators);
+            }
+            
+            ScrapeResult result = extractBlogPosts(doc, websiteUrl, profile);
+            result.setValidators(validators);
+            return result.getBlogPosts().isEmpty() ? null : result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            System.err.println("Error in static fetch of " + websiteUrl + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Static fetch that extracts cards while the body downloads and closes the connection
+     * once {@code limit} is reached. A page that stops early hashes only the links read so
+     * far, which stays stable while the top of the listing does.
+     * @return the result, or null when no card matched and the whole page should be probed
+     */
+    private ScrapeResult scrapeStaticStreaming(String websiteUrl, PageValidators previous, SiteProfile profile,
+                                               StreamLimit limit) {
+        boolean medium = profile.getVariant() == SiteVariant.MEDIUM;
+        List<BlogPost> posts = new ArrayList<>();
+        int[] newPosts = {0};
+        int[] knownRun = {0};
+        
+        try (HostPoliteness.Permit permit = hostPoliteness.acquire(websiteUrl)) {
+            FetchedPage page = pageFetcher.open(websiteUrl, previous);
+            if (page == null) {
+                return null;
+            }
+            if (page.isNotModified()) {
+                return ScrapeResult.unchanged(PageValidators.builder()
+                        .etag(page.getEtag() != null ? page.getEtag() : previous.getEtag())
+                        .lastModified(page.getLastModified() != null ? page.getLastModified() : previous.getLastModified())
+                        .contentHash(previous.getContentHash())
+                        .build());
+            }
+            
+            StreamingCardExtractor.Result streamed;
+            try (Reader reader = new InputStreamReader(page.getBody(), page.getCharset())) {
+                streamed = StreamingCardExtractor.extract(reader, websiteUrl, profile.getPlan(), profile.getDateLocale(), card -> {
+                    BlogPost post = medium
+                            ? toMediumBlogPost(card, websiteUrl, profile.getDateLocale())
+                            : toGenericBlogPost(card, websiteUrl, profile.getDateLocale());
+                    posts.add(post);
+                    if (limit.isKnown(post)) {
+                        knownRun[0]++;
+                    } else {
+                        knownRun[0] = 0;
+                        newPosts[0]++;
+                    }
+                    return (limit.getMaxNewPosts() <= 0 || newPosts[0] < limit.getMaxNewPosts())
+                            && (limit.getKnownRun() <= 0 || knownRun[0] < limit.getKnownRun());
+                });
+            }
+            if (streamed.getCards() == 0) {
+                return null;
+            }
+            
+            PageValidators validators = PageValidators.builder()
+                    .etag(page.getEtag())
+                    .lastModified(page.getLastModified())
+                    .contentHash(streamed.getListingHash())
+                    .build();
+            if (previous != null && validators.getContentHash().equals(previous.getContentHash())) {
+                return ScrapeResult.unchanged(validators);
+            }
+            
+            if (streamed.isStoppedEarly()) {
+                System.out.println("Stopped reading " + websiteUrl + " after " + posts.size() + " posts");
+            }
+            ScrapeResult result = ScrapeResult.changed(posts, validators);
+            result.setContainerSelector(profile.getPlan().getContainerSelectors().get(0));
+            result.setTruncated(streamed.isStoppedEarly());
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            System.err.println("Error in streamed fetch of " + websiteUrl + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private ScrapeResult scrapeWithBrowser(String websiteUrl, PageValidators previous, SiteProfile profile) {
+        ScrapeResult result = ScrapeResult.changed(new ArrayList<>(), null);
+        
+        // Lease a warm browser from the pool instead of starting one per URL
+        try (WebDriverPool.Lease lease = webDriverPool.lease()) {
+            WebDriver driver = lease.driver();
+            BrowserPageSettings.Resolved pageSettings = browserPageSettings.forUrl(websiteUrl);
+            BrowserPage.blockResources(driver, pageSettings.getBlockedUrlPatterns());
+            
             System.out.println("Loading page: " + websiteUrl);
-            driver.get(websiteUrl);
+            try (HostPoliteness.Permit permit = hostPoliteness.acquire(websiteUrl)) {
+                driver.get(websiteUrl);
+            }
             
             // Wait for page to load
             WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(20));
@@ -109,192 +375,126 @@ public class BlogScraper {
                 wait.until(ExpectedConditions.presenceOfElementLocated(org.openqa.selenium.By.tagName("body")));
             } catch (Exception ignored) {}
             
-            // Scroll to load more content
-            for (int i = 0; i < 3; i++) {
-                ((org.openqa.selenium.JavascriptExecutor) driver).executeScript("window.scrollTo(0, document.body.scrollHeight);");
-                try { Thread.sleep(1500); } catch (InterruptedException ignored) {}
-            }
+            // Scroll to load more content, stopping once no new posts appear
+            String cardSelector = String.join(", ", profile.getPlan().getContainerSelectors());
+            BrowserPage.scrollUntilStable(driver, cardSelector, profile.getScrollDepth(), pageSettings);
             
             String pageSource = driver.getPageSource();
+            snapshotStore.record(PageSnapshot.builder()
+                    .url(websiteUrl)
+                    .html(pageSource)
+                    .rendered(true)
+                    .recordedAt(Instant.now())
+                    .build());
             Document doc = Jsoup.parse(pageSource, websiteUrl);
             
-            // Extract blog posts based on the website
-            if (websiteUrl.contains("medium.com/blog")) {
-                blogPosts = extractMediumBlogPosts(doc, websiteUrl);
-            } else {
-                blogPosts = extractGenericBlogPosts(doc, websiteUrl);
+            // Rendered pages carry no HTTP validators; the listing hash alone detects changes
+            PageValidators validators = PageValidators.builder().contentHash(ListingHash.of(doc)).build();
+            if (previous != null && validators.getContentHash().equals(previous.getContentHash())) {
+                return ScrapeResult.unchanged(validators);
             }
+            result = extractBlogPosts(doc, websiteUrl, profile);
+            result.setValidators(validators);
             
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.err.println("Interrupted while waiting for a browser session: " + websiteUrl);
         } catch (Exception e) {
             System.err.println("Error scraping website: " + e.getMessage());
             e.printStackTrace();
-        } finally {
-            try { driver.quit(); } catch (Exception ignored) {}
         }
         
-        return blogPosts;
+        return result;
     }
 
     /**
-     * Extracts blog posts from Medium blog pages
+     * Extract blog posts with the website's selector plan. A stored plan that no longer
+     * matches (e.g. after a redesign) falls back to probing the built-in selectors.
      */
-    private static List<BlogPost> extractMediumBlogPosts(Document doc, String websiteUrl) {
+    private static ScrapeResult extractBlogPosts(Document doc, String websiteUrl, SiteProfile profile) {
         List<BlogPost> posts = new ArrayList<>();
+        String containerSelector = null;
+        boolean medium = profile.getVariant() == SiteVariant.MEDIUM;
         
         try {
-            // Medium blog post selectors
-            String[] selectors = {
-                "article", 
-                "[data-testid='postPreview']",
-                ".postArticle",
-                ".post",
-                "[class*='post']",
-                "[class*='article']"
-            };
+            CardExtractor.Extraction extraction = CardExtractor.extract(doc, profile.getPlan(), profile.getDateLocale());
+            if (extraction.getCards().isEmpty() && !profile.isBuiltIn()) {
+                extraction = CardExtractor.extract(doc, SelectorPlan.defaultFor(profile.getVariant()), profile.getDateLocale());
+            }
             
-            for (String selector : selectors) {
-                List<Element> elements = doc.select(selector);
-                if (!elements.isEmpty()) {
-                    System.out.println("Found " + elements.size() + " posts with selector: " + selector);
-                    
-                    for (Element element : elements) {
-                        BlogPost post = extractMediumBlogPost(element, websiteUrl);
-                        if (post != null && !post.getBlogTitle().isEmpty()) {
-                            posts.add(post);
-                        }
-                    }
-                    break; // Use the first working selector
-                }
+            containerSelector = extraction.getContainerSelector();
+            for (CardExtractor.Card card : extraction.getCards()) {
+                posts.add(medium
+                        ? toMediumBlogPost(card, websiteUrl, profile.getDateLocale())
+                        : toGenericBlogPost(card, websiteUrl, profile.getDateLocale()));
             }
             
             // If no posts found with selectors, try link-based extraction
-            if (posts.isEmpty()) {
+            if (posts.isEmpty() && medium) {
                 posts = extractMediumBlogPostsFromLinks(doc, websiteUrl);
             }
             
         } catch (Exception e) {
-            System.err.println("Error extracting Medium blog posts: " + e.getMessage());
+            System.err.println("Error extracting blog posts: " + e.getMessage());
         }
         
-        return posts;
+        ScrapeResult result = ScrapeResult.changed(posts, null);
+        result.setContainerSelector(containerSelector);
+        return result;
+    }
+
+    private Duration staticReprobeInterval() {
+        return Duration.ofHours(staticReprobeHours);
+    }
+
+    private static class LearnedFetchMode {
+        private final FetchMode mode;
+        private final Instant decidedAt;
+
+        private LearnedFetchMode(FetchMode mode, Instant decidedAt) {
+            this.mode = mode;
+            this.decidedAt = decidedAt;
+        }
     }
 
     /**
-     * Extracts a single Medium blog post from an element
+     * Builds a Medium blog post from an extracted card
      */
-    private static BlogPost extractMediumBlogPost(Element element, String websiteUrl) {
-        try {
-            // Extract title
-            String title = "";
-            Element titleElement = element.selectFirst("h1, h2, h3, h4, h5, h6, [data-testid='postPreviewTitle'], .title, [class*='title']");
-            if (titleElement != null) {
-                title = titleElement.text().trim();
-            }
-            
-            // Extract link
-            String link = "";
-            Element linkElement = element.selectFirst("a[href]");
-            if (linkElement != null) {
-                String href = linkElement.attr("href");
-                if (!href.isEmpty() && !href.equals("#")) {
-                    // Clean up the href to remove duplicate usernames
-                    href = cleanMediumUrl(href);
-                    
-                    if (href.startsWith("http")) {
-                        link = href;
-                    } else if (href.startsWith("/")) {
-                        link = "https://medium.com" + href;
-                    } else {
-                        // For relative links, construct properly
-                        link = "https://medium.com/" + href;
-                    }
-                }
-            }
-            
-            // Extract author
-            String author = "";
-            Element authorElement = element.selectFirst("[data-testid='authorName'], .author, [class*='author']");
-            if (authorElement != null) {
-                author = authorElement.text().trim();
-            }
-            
-            // Extract publish date
-            String publishDate = "";
-            Element dateElement = element.selectFirst("time, .date, [class*='date'], [datetime], [data-testid='publishDate'], [class*='publish']");
-            if (dateElement != null) {
-                publishDate = dateElement.attr("datetime");
-                if (publishDate.isEmpty()) {
-                    publishDate = dateElement.text().trim();
-                }
+    private static BlogPost toMediumBlogPost(CardExtractor.Card card, String websiteUrl, Locale dateLocale) {
+        String link = "";
+        String href = card.getHref();
+        if (!href.isEmpty() && !href.equals("#")) {
+            // Clean up the href to remove duplicate usernames
+            href = cleanMediumUrl(href);
+            
+            if (href.startsWith("http")) {
+                link = href;
+            } else if (href.startsWith("/")) {
+                link = "https://medium.com" + href;
             } else {
-                // Try alternative selectors for date
-                List<Element> dateElements = element.select("span, div, time");
-                for (Element dateEl : dateElements) {
-                    String text = dateEl.text().trim().toLowerCase();
-                    // Look for date patterns like "Added 20h ago", "Jul 22", "2025", etc.
-                    if (text.contains("ago") || text.matches(".*\\d{4}.*") || 
-                        text.matches(".*(jan|feb|mar|apr|may|jun|jul|aug|sep|oct|nov|dec).*")) {
-                        publishDate = dateEl.text().trim();
-                        break;
-                    }
-                }
-            }
-            
-            // Extract read time
-            String readTime = "";
-            Element readTimeElement = element.selectFirst("[data-testid='readTime'], .readTime, [class*='readTime'], [class*='time'], span:contains('min'), span:contains('read')");
-            if (readTimeElement != null) {
-                readTime = readTimeElement.text().trim();
-            } else {
-                // Try alternative selectors for read time
-                List<Element> timeElements = element.select("span, div, time");
-                for (Element timeEl : timeElements) {
-                    String text = timeEl.text().trim().toLowerCase();
-                    if (text.contains("min") && text.contains("read")) {
-                        readTime = timeEl.text().trim();
-                        break;
-                    } else if (text.matches(".*\\d+\\s*min.*")) {
-                        readTime = timeEl.text().trim();
-                        break;
-                    }
-                }
+                // For relative links, construct properly
+                link = "https://medium.com/" + href;
             }
-            
-            // Extract excerpt
-            String excerpt = "";
-            Element excerptElement = element.selectFirst("[data-testid='postPreviewSnippet'], .excerpt, [class*='excerpt'], p");
-            if (excerptElement != null) {
-                excerpt = excerptElement.text().trim();
-            }
-            
-            if (!title.isEmpty()) {
-                BlogPost post = BlogPost.builder()
-                    .blogTitle(title)
-                    .originalLink(link.isEmpty() ? websiteUrl : link)
-                    .author(author)
-                    .publishDate(publishDate)
-                    .readTime(readTime)
-                    .excerpt(excerpt)
-                    .build();
-                
-                // Debug: Print read time if found
-                if (!readTime.isEmpty()) {
-                    System.out.println("  Found read time: " + readTime + " for: " + title.substring(0, Math.min(50, title.length())));
-                }
-                
-                // Debug: Print publish date if found
-                if (!publishDate.isEmpty()) {
-                    System.out.println("  Found publish date: " + publishDate + " for: " + title.substring(0, Math.min(50, title.length())));
-                }
-                
-                return post;
-            }
-            
-        } catch (Exception e) {
-            System.err.println("Error extracting blog post: " + e.getMessage());
         }
         
-        return null;
+        String title = card.getTitle();
+        if (!card.getReadTime().isEmpty()) {
+            System.out.println("  Found read time: " + card.getReadTime() + " for: " + title.substring(0, Math.min(50, title.length())));
+        }
+        if (!card.getPublishDate().isEmpty()) {
+            System.out.println("  Found publish date: " + card.getPublishDate() + " for: " + title.substring(0, Math.min(50, title.length())));
+        }
+        
+        return BlogPost.builder()
+            .blogTitle(title)
+            .originalLink(link.isEmpty() ? websiteUrl : link)
+            .canonicalLink(UrlCanonicalizer.canonicalize(link))
+            .author(card.getAuthor())
+            .publishDate(card.getPublishDate())
+            .publishedAt(PublishDateNormalizer.normalize(card.getPublishDate(), dateLocale))
+            .readTime(card.getReadTime())
+            .excerpt(card.getExcerpt())
+            .build();
     }
 
     /**
@@ -329,6 +529,7 @@ public class BlogScraper {
                     posts.add(BlogPost.builder()
                         .blogTitle(title)
                         .originalLink(fullLink)
+                        .canonicalLink(UrlCanonicalizer.canonicalize(fullLink))
                         .author("")
                         .publishDate("")
                         .readTime("")
@@ -344,187 +545,25 @@ public class BlogScraper {
     }
 
     /**
-     * Extracts blog posts from generic websites
+     * Builds a blog post for a generic website from an extracted card
      */
-    private static List<BlogPost> extractGenericBlogPosts(Document doc, String websiteUrl) {
-        List<BlogPost> posts = new ArrayList<>();
-        
-        try {
-            // Generic blog post selectors
-            String[] selectors = {
-                "article", ".post", ".blog-post", ".entry", ".content-item",
-                "[class*='post']", "[class*='article']", "[class*='blog']"
-            };
-            
-            for (String selector : selectors) {
-                List<Element> elements = doc.select(selector);
-                if (!elements.isEmpty()) {
-                    System.out.println("Found " + elements.size() + " posts with selector: " + selector);
-                    
-                    for (Element element : elements) {
-                        BlogPost post = extractGenericBlogPost(element, websiteUrl);
-                        if (post != null && !post.getBlogTitle().isEmpty()) {
-                            posts.add(post);
-                        }
-                    }
-                    break;
-                }
-            }
-            
-        } catch (Exception e) {
-            System.err.println("Error extracting generic blog posts: " + e.getMessage());
+    private static BlogPost toGenericBlogPost(CardExtractor.Card card, String websiteUrl, Locale dateLocale) {
+        String link = "";
+        String href = card.getHref();
+        if (!href.isEmpty() && !href.equals("#")) {
+            link = href.startsWith("http") ? href : extractBaseUrl(websiteUrl) + href;
         }
         
-        return posts;
-    }
-
-    /**
-     * Extracts a single generic blog post from an element
-     */
-    private static BlogPost extractGenericBlogPost(Element element, String websiteUrl) {
-        try {
-            // Extract title
-            String title = "";
-            Element titleElement = element.selectFirst("h1, h2, h3, h4, h5, h6, .title, [class*='title']");
-            if (titleElement != null) {
-                title = titleElement.text().trim();
-            }
-            
-            // Extract link
-            String link = "";
-            Element linkElement = element.selectFirst("a[href]");
-            if (linkElement != null) {
-                String href = linkElement.attr("href");
-                if (!href.isEmpty() && !href.equals("#")) {
-                    link = href.startsWith("http") ? href : extractBaseUrl(websiteUrl) + href;
-                }
-            }
-            
-            if (!title.isEmpty()) {
-                return BlogPost.builder()
-                    .blogTitle(title)
-                    .originalLink(link.isEmpty() ? websiteUrl : link)
-                    .author("")
-                    .publishDate("")
-                    .readTime("")
-                    .excerpt("")
-                    .build();
-            }
-            
-        } catch (Exception e) {
-            System.err.println("Error extracting generic blog post: " + e.getMessage());
-        }
-        
-        return null;
-    }
-
-    /**
-     * Formats the publish date to be more readable
-     */
-    private static String formatPublishDate(String publishDate) {
-        if (publishDate == null || publishDate.isEmpty()) {
-            return "";
-        }
-        
-        try {
-            // Convert relative times to exact dates
-            if (publishDate.contains("ago")) {
-                return convertRelativeTimeToExactDate(publishDate);
-            }
-            
-            // If it's already a nice format, return as is
-            if (publishDate.matches(".*\\d{1,2}\\s*(min|hour|day|week|month|year).*")) {
-                return convertRelativeTimeToExactDate(publishDate);
-            }
-            
-            // Try to parse ISO date format
-            if (publishDate.matches("\\d{4}-\\d{2}-\\d{2}.*")) {
-                try {
-                    java.time.LocalDateTime dateTime = java.time.LocalDateTime.parse(publishDate.substring(0, 19));
-                    java.time.format.DateTimeFormatter formatter = java.time.format.DateTimeFormatter.ofPattern("MMM dd, yyyy 'at' HH:mm");
-                    return dateTime.format(formatter);
-                } catch (Exception e) {
-                    // If parsing fails, try just the date part
-                    try {
-                        java.time.LocalDate date = java.time.LocalDate.parse(publishDate.substring(0, 10));
-                        java.time.format.DateTimeFormatter formatter = java.time.format.DateTimeFormatter.ofPattern("MMM dd, yyyy");
-                        return date.format(formatter);
-                    } catch (Exception e2) {
-                        // If all parsing fails, return original
-                        return publishDate;
-                    }
-                }
-            }
-            
-            // Try to parse other common formats
-            if (publishDate.matches(".*\\d{4}.*")) {
-                // Extract year and try to format
-                java.util.regex.Pattern pattern = java.util.regex.Pattern.compile("(\\w{3})\\s*(\\d{1,2}),?\\s*(\\d{4})");
-                java.util.regex.Matcher matcher = pattern.matcher(publishDate);
-                if (matcher.find()) {
-                    return matcher.group(1) + " " + matcher.group(2) + ", " + matcher.group(3);
-                }
-            }
-            
-        } catch (Exception e) {
-            // If any formatting fails, return original
-        }
-        
-        return publishDate;
-    }
-    
-    /**
-     * Converts relative time to exact date and time
-     */
-    private static String convertRelativeTimeToExactDate(String relativeTime) {
-        try {
-            java.time.LocalDateTime now = java.time.LocalDateTime.now();
-            java.time.LocalDateTime exactTime = now;
-            
-            // Parse relative time patterns
-            java.util.regex.Pattern pattern = java.util.regex.Pattern.compile("(\\d+)\\s*(min|hour|h|day|d|week|w|month|m|year|y)");
-            java.util.regex.Matcher matcher = pattern.matcher(relativeTime.toLowerCase());
-            
-            if (matcher.find()) {
-                int amount = Integer.parseInt(matcher.group(1));
-                String unit = matcher.group(2);
-                
-                switch (unit) {
-                    case "min":
-                        exactTime = now.minusMinutes(amount);
-                        break;
-                    case "hour":
-                    case "h":
-                        exactTime = now.minusHours(amount);
-                        break;
-                    case "day":
-                    case "d":
-                        exactTime = now.minusDays(amount);
-                        break;
-                    case "week":
-                    case "w":
-                        exactTime = now.minusWeeks(amount);
-                        break;
-                    case "month":
-                    case "m":
-                        exactTime = now.minusMonths(amount);
-                        break;
-                    case "year":
-                    case "y":
-                        exactTime = now.minusYears(amount);
-                        break;
-                }
-                
-                // Format the exact date and time
-                java.time.format.DateTimeFormatter formatter = java.time.format.DateTimeFormatter.ofPattern("MMM dd, yyyy 'at' HH:mm");
-                return exactTime.format(formatter);
-            }
-            
-        } catch (Exception e) {
-            // If conversion fails, return original
-        }
-        
-        return relativeTime;
+        return BlogPost.builder()
+            .blogTitle(card.getTitle())
+            .originalLink(link.isEmpty() ? websiteUrl : link)
+            .canonicalLink(UrlCanonicalizer.canonicalize(link))
+            .author(card.getAuthor())
+            .publishDate(card.getPublishDate())
+            .publishedAt(PublishDateNormalizer.normalize(card.getPublishDate(), dateLocale))
+            .readTime(card.getReadTime())
+            .excerpt(card.getExcerpt())
+            .build();
     }
 
     /**
@@ -635,7 +674,7 @@ public class BlogScraper {
                             html.append("            <span style=\"background: #3498db; color: white; padding: 4px 8px; border-radius: 4px; margin-right: 8px; font-size: 12px;\">👤 ").append(escapeHtml(post.getAuthor())).append("</span>\n");
                         }
                         if (!post.getPublishDate().isEmpty()) {
-                            html.append("            <span style=\"background: #27ae60; color: white; padding: 4px 8px; border-radius: 4px; margin-right: 8px; font-size: 12px;\">📅 ").append(escapeHtml(formatPublishDate(post.getPublishDate()))).append("</span>\n");
+                            html.append("            <span style=\"background: #27ae60; color: white; padding: 4px 8px; border-radius: 4px; margin-right: 8px; font-size: 12px;\">📅 ").append(escapeHtml(post.getPublishedAt() != null ? PublishDateNormalizer.format(post.getPublishedAt()) : post.getPublishDate())).append("</span>\n");
                         }
                         html.append("        </div>\n");
                     }
@@ -701,10 +740,15 @@ public class BlogScraper {
         // Add more websites as needed
         // websites.add("https://example.com/blog");
         
+        WebDriverPool webDriverPool = new WebDriverPool();
+        StaticPageFetcher staticPageFetcher = new StaticPageFetcher();
+        BlogScraper scraper = new BlogScraper(webDriverPool, staticPageFetcher, new HostPoliteness(staticPageFetcher),
+                new BrowserPageSettings(), new PageSnapshotStore());
+        
         try {
             // Scrape blogs from all websites
             System.out.println("Scraping blogs from " + websites.size() + " website(s)...");
-            List<BlogPost> blogPosts = scrapeBlogsFromWebsites(websites);
+            List<BlogPost> blogPosts = scraper.scrapeBlogsFromWebsites(websites);
             
             // Remove duplicates
             blogPosts = removeDuplicateBlogPosts(blogPosts);
@@ -718,6 +762,8 @@ public class BlogScraper {
         } catch (Exception e) {
             System.err.println("Error running blog scraper: " + e.getMessage());
             e.printStackTrace();
+        } finally {
+            webDriverPool.shutdown();
         }
     }
 }
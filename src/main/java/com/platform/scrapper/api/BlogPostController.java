@@ -1,6 +1,7 @@
 package com.platform.scrapper.api;
 
 import com.platform.scrapper.request.CreateBlogPostRequest;
+import com.platform.scrapper.response.ArticleContentResponse;
 import com.platform.scrapper.response.BlogPostResponse;
 import com.platform.scrapper.service.BlogPostService;
 import lombok.RequiredArgsConstructor;
@@ -43,9 +44,18 @@ public class BlogPostController {
         return ResponseEntity.ok(blogPost);
     }
     
+    @GetMapping("/{id}/content")
+    public ResponseEntity<ArticleContentResponse> getBlogPostContent(@PathVariable Long id) {
+        ArticleContentResponse content = blogPostService.getBlogPostContent(id);
+        return ResponseEntity.ok(content);
+    }
+    
     @GetMapping("/search")
-    public ResponseEntity<List<BlogPostResponse>> searchBlogPosts(@RequestParam String q) {
-        List<BlogPostResponse> blogPosts = blogPostService.searchBlogPosts(q);
+    public ResponseEntity<List<BlogPostResponse>> searchBlogPosts(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        List<BlogPostResponse> blogPosts = blogPostService.searchBlogPosts(q, page, size);
         return ResponseEntity.ok(blogPosts);
     }
     
@@ -1,5 +1,6 @@
 package com.platform.scrapper.api;
 
+import com.platform.scrapper.browser.WebDriverPool;
 import com.platform.scrapper.request.AddWebsiteRequest;
 import com.platform.scrapper.response.WebsiteResponse;
 import com.platform.scrapper.service.ScrapperService;
@@ -30,4 +31,9 @@ public class ScrapperController {
         List<WebsiteResponse> websites = scrapperService.getAllWebsites();
         return ResponseEntity.ok(websites);
     }
+    
+    @GetMapping("/scraper/browser-pool")
+    public ResponseEntity<WebDriverPool.PoolStatistics> getBrowserPoolStatistics() {
+        return ResponseEntity.ok(scrapperService.getBrowserPoolStatistics());
+    }
 }
@@ -0,0 +1,72 @@
+package com.platform.scrapper.browser;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.ChromiumDriver;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Page-level helpers for pooled browser sessions
+ */
+public final class BrowserPage {
+
+    private static final long POLL_INTERVAL_MS = 100;
+
+    // Number of post cards (or links, without a selector) and page height: the page has grown when either does
+    private static final String MEASURE_SCRIPT =
+            "var n = 0;" +
+            "try { n = document.querySelectorAll(arguments[0]).length; } catch (e) { n = document.links.length; }" +
+            "return [n, document.body ? document.body.scrollHeight : 0];";
+
+    private BrowserPage() {
+    }
+
+    /**
+     * Block requests matching the given DevTools URL patterns for this session. Sessions are
+     * shared between websites, so this is set before every navigation; an empty list unblocks.
+     */
+    public static void blockResources(WebDriver driver, List<String> urlPatterns) {
+        if (driver instanceof ChromiumDriver chromium) {
+            chromium.executeCdpCommand("Network.enable", Map.of());
+            chromium.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", urlPatterns));
+        }
+    }
+
+    /**
+     * Scroll to the bottom until the page stops growing: {@code stableRounds} scrolls in a row
+     * bring no new cards, {@code maxScrolls} is reached, or the timeout runs out. Each scroll
+     * moves on as soon as the page grows instead of sleeping a fixed time.
+     * @param cardSelector CSS selector counting post cards; links are counted when it is invalid
+     * @return number of scrolls made
+     */
+    public static int scrollUntilStable(WebDriver driver, String cardSelector, int maxScrolls,
+                                        BrowserPageSettings.Resolved settings) throws InterruptedException {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        long deadline = System.currentTimeMillis() + settings.getScrollTimeoutMs();
+        Object last = js.executeScript(MEASURE_SCRIPT, cardSelector);
+        int stable = 0;
+        int scrolls = 0;
+
+        while (scrolls < maxScrolls && stable < settings.getStableRounds() && System.currentTimeMillis() < deadline) {
+            js.executeScript("window.scrollTo(0, document.body.scrollHeight);");
+            scrolls++;
+
+            long roundEnd = Math.min(deadline, System.currentTimeMillis() + settings.getScrollPauseMs());
+            boolean grew = false;
+            while (System.currentTimeMillis() < roundEnd) {
+                Thread.sleep(POLL_INTERVAL_MS);
+                Object current = js.executeScript(MEASURE_SCRIPT, cardSelector);
+                if (!Objects.equals(current, last)) {
+                    last = current;
+                    grew = true;
+                    break;
+                }
+            }
+            stable = grew ? 0 : stable + 1;
+        }
+        return scrolls;
+    }
+}
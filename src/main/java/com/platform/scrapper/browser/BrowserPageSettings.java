@@ -0,0 +1,78 @@
+package com.platform.scrapper.browser;
+
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * How the browser loads listing pages: which resource requests are blocked and how long to
+ * keep scrolling for lazily loaded posts. Defaults come from {@code blog.scraper.browser.*};
+ * {@code blog.scraper.browser.sites.[<host>].*} overrides any of them for one host.
+ */
+@Component
+@ConfigurationProperties(prefix = "blog.scraper.browser")
+@Data
+public class BrowserPageSettings {
+
+    private boolean blockResources = true;
+
+    // Chrome DevTools URL patterns; images, media, fonts and stylesheets by default
+    private List<String> blockedUrlPatterns = new ArrayList<>(List.of(
+            "*.png", "*.jpg", "*.jpeg", "*.gif", "*.webp", "*.avif", "*.svg", "*.ico",
+            "*.mp4", "*.webm", "*.woff", "*.woff2", "*.ttf", "*.otf", "*.css"));
+
+    private long scrollPauseMs = 400; // Longest wait for new posts after each scroll
+    private long scrollTimeoutMs = 8000; // Upper bound on all scrolling for one page
+    private int stableRounds = 2; // Scrolls in a row without new posts before stopping
+
+    private Map<String, Site> sites = new HashMap<>();
+
+    /**
+     * Per-host overrides; unset fields keep the defaults
+     */
+    @Data
+    public static class Site {
+        private Boolean blockResources;
+        private List<String> blockedUrlPatterns;
+        private Long scrollPauseMs;
+        private Long scrollTimeoutMs;
+        private Integer stableRounds;
+    }
+
+    /**
+     * Settings for one page after applying its host's overrides
+     */
+    @Data
+    @Builder
+    public static class Resolved {
+        private List<String> blockedUrlPatterns; // Empty when nothing is blocked
+        private long scrollPauseMs;
+        private long scrollTimeoutMs;
+        private int stableRounds;
+    }
+
+    public Resolved forUrl(String url) {
+        String host = URI.create(url).getHost();
+        Site site = host == null ? null : sites.get(host.toLowerCase(Locale.ROOT));
+        if (site == null) {
+            site = new Site();
+        }
+
+        boolean block = site.getBlockResources() != null ? site.getBlockResources() : blockResources;
+        List<String> patterns = site.getBlockedUrlPatterns() != null ? site.getBlockedUrlPatterns() : blockedUrlPatterns;
+        return Resolved.builder()
+                .blockedUrlPatterns(block ? List.copyOf(patterns) : List.of())
+                .scrollPauseMs(site.getScrollPauseMs() != null ? site.getScrollPauseMs() : scrollPauseMs)
+                .scrollTimeoutMs(site.getScrollTimeoutMs() != null ? site.getScrollTimeoutMs() : scrollTimeoutMs)
+                .stableRounds(site.getStableRounds() != null ? site.getStableRounds() : stableRounds)
+                .build();
+    }
+}
@@ -0,0 +1,258 @@
+package com.platform.scrapper.browser;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded pool of warm headless Chrome sessions. Scrapes lease a session instead of
+ * starting a browser per URL; sessions are reset between leases, health-checked before
+ * reuse and recycled after serving a configured number of pages. Every session the pool
+ * started, idle or leased, is quit on shutdown.
+ */
+@Component
+@Slf4j
+public class WebDriverPool {
+
+    @Value("${blog.scraper.browser-pool.size:2}")
+    private int poolSize = 2;
+
+    @Value("${blog.scraper.browser-pool.max-pages-per-session:50}")
+    private int maxPagesPerSession = 50;
+
+    @Value("${blog.scraper.browser-pool.lease-timeout-seconds:60}")
+    private long leaseTimeoutSeconds = 60;
+
+    @Value("${blog.scraper.web-driver.headless:true}")
+    private boolean headless = true;
+
+    @Value("${blog.scraper.web-driver.user-agent:Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/115 Safari/537.36}")
+    private String userAgent = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/115 Safari/537.36";
+
+    @Value("${blog.scraper.web-driver.window-width:1920}")
+    private int windowWidth = 1920;
+
+    @Value("${blog.scraper.web-driver.window-height:1080}")
+    private int windowHeight = 1080;
+
+    @Value("${blog.scraper.timeouts.page-load-timeout:30}")
+    private long pageLoadTimeoutSeconds = 30;
+
+    private final BlockingQueue<PooledSession> idleSessions = new LinkedBlockingQueue<>();
+    private final Set<PooledSession> liveSessions = ConcurrentHashMap.newKeySet(); // Idle and leased
+    private Semaphore leasePermits;
+    private volatile boolean closed;
+
+    private final AtomicLong totalLeases = new AtomicLong();
+    private final AtomicLong leaseTimeouts = new AtomicLong();
+    private final AtomicLong totalLeaseWaitNanos = new AtomicLong();
+    private final AtomicLong maxLeaseWaitNanos = new AtomicLong();
+    private final AtomicLong sessionsCreated = new AtomicLong();
+    private final AtomicLong sessionsRecycled = new AtomicLong();
+
+    /**
+     * Lease a session, waiting up to the configured timeout for one to free up
+     */
+    public Lease lease() throws InterruptedException {
+        if (closed) {
+            throw new IllegalStateException("Browser pool is shut down");
+        }
+        long waitStarted = System.nanoTime();
+        if (!permits().tryAcquire(leaseTimeoutSeconds, TimeUnit.SECONDS)) {
+            leaseTimeouts.incrementAndGet();
+            throw new IllegalStateException("Timed out waiting for a browser session");
+        }
+        recordLeaseWait(System.nanoTime() - waitStarted);
+
+        try {
+            PooledSession session = idleSessions.poll();
+            while (session != null && !isHealthy(session)) {
+                discard(session);
+                session = idleSessions.poll();
+            }
+            if (session == null) {
+                session = createSession();
+            }
+            if (closed) {
+                // Shut down while this lease was being set up
+                discard(session);
+                throw new IllegalStateException("Browser pool is shut down");
+            }
+            totalLeases.incrementAndGet();
+            return new Lease(session);
+        } catch (RuntimeException e) {
+            permits().release();
+            throw e;
+        }
+    }
+
+    public PoolStatistics getStatistics() {
+        long leases = totalLeases.get();
+        return PoolStatistics.builder()
+                .poolSize(poolSize)
+                .leasedSessions(poolSize - permits().availablePermits())
+                .idleSessions(idleSessions.size())
+                .totalLeases(leases)
+                .leaseTimeouts(leaseTimeouts.get())
+                .averageLeaseWaitMillis(leases == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalLeaseWaitNanos.get() / leases))
+                .maxLeaseWaitMillis(TimeUnit.NANOSECONDS.toMillis(maxLeaseWaitNanos.get()))
+                .sessionsCreated(sessionsCreated.get())
+                .sessionsRecycled(sessionsRecycled.get())
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        closed = true;
+        idleSessions.clear();
+        // Leased sessions too; their leases find the pool closed when they are returned
+        for (PooledSession session : liveSessions) {
+            discard(session);
+        }
+    }
+
+    private synchronized Semaphore permits() {
+        if (leasePermits == null) {
+            leasePermits = new Semaphore(poolSize, true);
+        }
+        return leasePermits;
+    }
+
+    private void release(PooledSession session) {
+        try {
+            if (closed) {
+                discard(session);
+                return;
+            }
+            session.pagesServed++;
+            if (session.pagesServed >= maxPagesPerSession || !reset(session)) {
+                sessionsRecycled.incrementAndGet();
+                discard(session);
+            } else {
+                idleSessions.offer(session);
+                if (closed && idleSessions.remove(session)) {
+                    discard(session); // Shut down while it was being reset
+                }
+            }
+        } finally {
+            permits().release();
+        }
+    }
+
+    private PooledSession createSession() {
+        ChromeOptions options = new ChromeOptions();
+        if (headless) {
+            options.addArguments("--headless");
+        }
+        options.addArguments("--no-sandbox", "--disable-dev-shm-usage", "--disable-gpu",
+                "--window-size=" + windowWidth + "," + windowHeight);
+        options.addArguments("--user-agent=" + userAgent);
+
+        WebDriver driver = new ChromeDriver(options);
+        driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(pageLoadTimeoutSeconds));
+        sessionsCreated.incrementAndGet();
+        log.debug("Started browser session #{}", sessionsCreated.get());
+        PooledSession session = new PooledSession(driver);
+        liveSessions.add(session);
+        return session;
+    }
+
+    private boolean isHealthy(PooledSession session) {
+        try {
+            session.driver.getWindowHandle();
+            return true;
+        } catch (Exception e) {
+            log.warn("Discarding unhealthy browser session: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean reset(PooledSession session) {
+        try {
+            session.driver.manage().deleteAllCookies();
+            session.driver.get("about:blank");
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private void discard(PooledSession session) {
+        if (liveSessions.remove(session)) {
+            quietlyQuit(session.driver);
+        }
+    }
+
+    private void quietlyQuit(WebDriver driver) {
+        try { driver.quit(); } catch (Exception ignored) {}
+    }
+
+    private void recordLeaseWait(long waitNanos) {
+        totalLeaseWaitNanos.addAndGet(waitNanos);
+        maxLeaseWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    private static class PooledSession {
+        private final WebDriver driver;
+        private int pagesServed;
+
+        private PooledSession(WebDriver driver) {
+            this.driver = driver;
+        }
+    }
+
+    /**
+     * A leased session; closing it hands the browser back to the pool, or quits it once the
+     * pool is shut down
+     */
+    public class Lease implements AutoCloseable {
+        private final PooledSession session;
+        private boolean released;
+
+        private Lease(PooledSession session) {
+            this.session = session;
+        }
+
+        public WebDriver driver() {
+            return session.driver;
+        }
+
+        @Override
+        public void close() {
+            if (!released) {
+                released = true;
+                release(session);
+            }
+        }
+    }
+
+    /**
+     * Occupancy and lease-wait metrics for the pool
+     */
+    @lombok.Data
+    @lombok.Builder
+    public static class PoolStatistics {
+        private int poolSize;
+        private int leasedSessions;
+        private int idleSessions;
+        private long totalLeases;
+        private long leaseTimeouts;
+        private long averageLeaseWaitMillis;
+        private long maxLeaseWaitMillis;
+        private long sessionsCreated;
+        private long sessionsRecycled;
+    }
+}
@@ -0,0 +1,232 @@
+package com.platform.scrapper.content;
+
+import com.platform.event.DomainEvent;
+import com.platform.event.DomainEventListener;
+import com.platform.event.EventTypes;
+import com.platform.scrapper.domain.ArticleContent;
+import com.platform.scrapper.domain.ArticleContentStatus;
+import com.platform.scrapper.fetch.FetchedPage;
+import com.platform.scrapper.fetch.PageFetcher;
+import com.platform.scrapper.politeness.HostPoliteness;
+import com.platform.scrapper.repository.ArticleContentRepository;
+import com.platform.scrapper.service.ScrapeJobQueue;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Second scrape stage: fetches the full article behind each newly scraped post and stores
+ * its text gzipped in article_content. It polls on its own schedule and runs on its own
+ * bounded executor, so listing scrapes never wait on it. Work is claimed from the table with
+ * FOR UPDATE SKIP LOCKED, and only as much as the executor has room for; the rest stays
+ * queued in the database. Article fetches only take a host's spare politeness tokens.
+ * A BLOG_POSTS_SCRAPED event triggers a poll right away instead of waiting for the next one;
+ * the poll runs on the article executor, so the event delivery never waits on it.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleContentPipeline implements DomainEventListener {
+
+    private final ArticleContentRepository articleContentRepository;
+    private final PageFetcher pageFetcher;
+    private final HostPoliteness hostPoliteness;
+    private final ScrapeJobQueue scrapeJobQueue;
+    private final ThreadPoolTaskExecutor articleExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${blog.scraper.content.enabled:false}")
+    private boolean enabled;
+
+    @Value("${blog.scraper.content.enqueue-window-hours:24}")
+    private long enqueueWindowHours = 24;
+
+    @Value("${blog.scraper.content.lease-seconds:300}")
+    private long leaseSeconds = 300;
+
+    @Value("${blog.scraper.content.max-attempts:3}")
+    private int maxAttempts = 3;
+
+    @Value("${blog.scraper.content.retry-backoff-seconds:300}")
+    private long retryBackoffSeconds = 300;
+
+    @Value("${blog.scraper.content.host-busy-delay-seconds:10}")
+    private long hostBusyDelaySeconds = 10;
+
+    @Value("${blog.scraper.content-extraction.minimum-content-length:100}")
+    private int minimumContentLength = 100;
+
+    @Value("${blog.scraper.content-extraction.preserve-formatting:false}")
+    private boolean preserveFormatting;
+
+    // One permit per running or queued fetch; claims never exceed what the executor can hold
+    private Semaphore capacity;
+
+    // At most one event-triggered poll waits for the executor at a time
+    private final AtomicBoolean pollQueued = new AtomicBoolean();
+
+    @PostConstruct
+    public void initialize() {
+        capacity = new Semaphore(articleExecutor.getMaxPoolSize() + articleExecutor.getQueueCapacity());
+    }
+
+    @Override
+    public Set<String> eventTypes() {
+        return Set.of(EventTypes.BLOG_POSTS_SCRAPED);
+    }
+
+    @Override
+    public void onEvent(DomainEvent event) {
+        if (!enabled || !pollQueued.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            articleExecutor.execute(() -> {
+                pollQueued.set(false);
+                poll();
+            });
+        } catch (RejectedExecutionException e) {
+            // Executor full or shutting down; the scheduled poll picks the posts up
+            pollQueued.set(false);
+        }
+    }
+
+    /**
+     * Queue posts created recently, then claim as many due rows as there is room for.
+     * Polls run one at a time, so two of them never claim the same free room.
+     */
+    @Scheduled(fixedDelayString = "${blog.scraper.content.poll-interval-ms:15000}")
+    public synchronized void poll() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Integer queued = transactionTemplate.execute(status ->
+                articleContentRepository.enqueueNewPosts(now.minusHours(enqueueWindowHours), now));
+        if (queued != null && queued > 0) {
+            log.info("Queued {} articles for content fetch", queued);
+        }
+
+        int room = capacity.availablePermits();
+        if (room == 0) {
+            return;
+        }
+
+        List<ArticleContent> claimed = transactionTemplate.execute(status -> claim(room));
+        for (ArticleContent article : claimed != null ? claimed : List.<ArticleContent>of()) {
+            if (!capacity.tryAcquire()) {
+                // Room was taken since it was counted; hand the row back rather than wait for it
+                release(article, ArticleContentStatus.PENDING, LocalDateTime.now(), true, null);
+                continue;
+            }
+            try {
+                articleExecutor.execute(() -> {
+                    try {
+                        fetch(article);
+                    } finally {
+                        capacity.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                // Executor full or shutting down; hand the row back for a later poll
+                capacity.release();
+                log.warn("Could not start content fetch of {}: {}", article.getUrl(), e.getMessage());
+                release(article, ArticleContentStatus.PENDING, LocalDateTime.now(), true, null);
+            }
+        }
+    }
+
+    private List<ArticleContent> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ArticleContent> articles = articleContentRepository.lockDue(now, limit);
+        for (ArticleContent article : articles) {
+            article.setStatus(ArticleContentStatus.FETCHING);
+            article.setAttempts(article.getAttempts() + 1);
+            article.setLeasedBy(scrapeJobQueue.getNodeId());
+            article.setLeaseExpiresAt(now.plusSeconds(leaseSeconds));
+        }
+        return articles;
+    }
+
+    private void fetch(ArticleContent article) {
+        String url = article.getUrl();
+        try {
+            if (!hostPoliteness.isAllowed(url)) {
+                release(article, ArticleContentStatus.SKIPPED, LocalDateTime.now(), false, "Disallowed by robots.txt");
+                return;
+            }
+
+            FetchedPage page;
+            HostPoliteness.Permit permit = hostPoliteness.tryAcquire(url);
+            if (permit == null) {
+                // Host is busy with listing scrapes; come back without spending an attempt
+                release(article, ArticleContentStatus.PENDING,
+                        LocalDateTime.now().plusSeconds(hostBusyDelaySeconds), true, null);
+                return;
+            }
+            try (permit) {
+                page = pageFetcher.fetch(url, null);
+            }
+            if (page == null || page.getHtml() == null) {
+                retryOrFail(article, "Fetch failed");
+                return;
+            }
+
+            String text = ArticleExtractor.extract(Jsoup.parse(page.getHtml(), page.getUrl()), preserveFormatting);
+            if (text == null || text.length() < minimumContentLength) {
+                release(article, ArticleContentStatus.SKIPPED, LocalDateTime.now(), false, "No article body found");
+                return;
+            }
+
+            byte[] compressed = GzipCodec.compress(text);
+            Integer updated = transactionTemplate.execute(status -> articleContentRepository.markFetched(
+                    article.getId(), article.getLeasedBy(), compressed, text.length(), LocalDateTime.now()));
+            if (updated == null || updated == 0) {
+                log.warn("Content of {} fetched after its lease was lost", url);
+            } else {
+                log.debug("Stored {} chars of {} in {} bytes", text.length(), url, compressed.length);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Content fetch of {} failed: {}", url, e.getMessage());
+            retryOrFail(article, e.getMessage());
+        }
+    }
+
+    private void retryOrFail(ArticleContent article, String error) {
+        if (article.getAttempts() >= maxAttempts) {
+            release(article, ArticleContentStatus.FAILED, LocalDateTime.now(), false, error);
+            return;
+        }
+        // Exponential backoff: 1x, 2x, 4x ... the base delay
+        long backoff = retryBackoffSeconds << Math.min(article.getAttempts() - 1, 10);
+        release(article, ArticleContentStatus.PENDING, LocalDateTime.now().plusSeconds(backoff), false, error);
+    }
+
+    private void release(ArticleContent article, ArticleContentStatus status, LocalDateTime nextAttemptAt,
+                         boolean refundAttempt, String error) {
+        try {
+            transactionTemplate.executeWithoutResult(tx -> articleContentRepository.release(
+                    article.getId(), article.getLeasedBy(), status.name(), nextAttemptAt,
+                    refundAttempt ? 1 : 0, error, LocalDateTime.now()));
+        } catch (Exception e) {
+            // The lease runs out and the row is claimed again
+            log.warn("Could not update article content {}: {}", article.getId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.platform.scrapper.content;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.safety.Safelist;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Pulls the article body out of a post page. Marked-up bodies (articleBody, article, common
+ * content classes) are preferred; otherwise the element holding the most paragraph text wins.
+ */
+public final class ArticleExtractor {
+
+    private static final String BODY_SELECTOR = "[itemprop=articleBody], article, .post-content, .entry-content, "
+            + ".article-content, .article-body, .post-body, main";
+
+    private static final String NOISE_SELECTOR = "script, style, noscript, template, iframe, form, nav, aside, "
+            + "header, footer, button, svg";
+
+    private static final String BLOCK_SELECTOR = "p, h1, h2, h3, h4, h5, h6, li, blockquote, pre";
+
+    private ArticleExtractor() {
+    }
+
+    /**
+     * @param preserveFormatting keep basic HTML (paragraphs, lists, links, emphasis) instead of plain text
+     * @return the article body, or null when the page has no text to speak of
+     */
+    public static String extract(Document doc, boolean preserveFormatting) {
+        doc.select(NOISE_SELECTOR).remove();
+
+        Element body = null;
+        int bodyLength = 0;
+        for (Element candidate : doc.select(BODY_SELECTOR)) {
+            int length = paragraphLength(candidate);
+            if (length > bodyLength) {
+                body = candidate;
+                bodyLength = length;
+            }
+        }
+        if (body == null) {
+            body = densestParagraphParent(doc);
+        }
+        if (body == null) {
+            return null;
+        }
+
+        if (preserveFormatting) {
+            return Jsoup.clean(body.html(), Safelist.basic()).trim();
+        }
+
+        StringBuilder text = new StringBuilder();
+        for (Element block : body.select(BLOCK_SELECTOR)) {
+            // A block nested in another block (li > p) is already part of the outer one's text
+            if (block.parent() != null && block.parent().closest(BLOCK_SELECTOR) != null) {
+                continue;
+            }
+            String blockText = block.text().trim();
+            if (!blockText.isEmpty()) {
+                if (!text.isEmpty()) {
+                    text.append("\n\n");
+                }
+                text.append(blockText);
+            }
+        }
+        return text.isEmpty() ? body.text().trim() : text.toString();
+    }
+
+    private static int paragraphLength(Element element) {
+        int length = 0;
+        for (Element paragraph : element.select("p")) {
+            length += paragraph.text().length();
+        }
+        return length;
+    }
+
+    private static Element densestParagraphParent(Document doc) {
+        Map<Element, Integer> lengthByParent = new HashMap<>();
+        Element best = null;
+        int bestLength = 0;
+        for (Element paragraph : doc.select("p")) {
+            Element parent = paragraph.parent();
+            if (parent == null) {
+                continue;
+            }
+            int length = lengthByParent.merge(parent, paragraph.text().length(), Integer::sum);
+            if (length > bestLength) {
+                best = parent;
+                bestLength = length;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,104 @@
+package com.platform.scrapper.dedupe;
+
+import com.platform.scrapper.domain.Website;
+import com.platform.scrapper.repository.BlogPostRepository;
+import com.platform.scrapper.repository.WebsiteRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-website Bloom filters over the titles and canonical links of saved posts, the two
+ * keys blog_post is unique on. A post the filter has never seen is new without asking the
+ * database; only possible matches are checked with a query. Posts saved by another instance
+ * since the filter loaded are still caught by the unique indexes on insert.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class KnownPostFilter {
+
+    private static final int MIN_CAPACITY = 1024;
+
+    private final BlogPostRepository blogPostRepository;
+    private final WebsiteRepository websiteRepository;
+
+    @Value("${blog.scraper.dedupe.false-positive-rate:0.01}")
+    private double falsePositiveRate = 0.01;
+
+    private final Map<Long, BloomFilter> filters = new ConcurrentHashMap<>();
+
+    /**
+     * Loads the filters of every active website so the first scrapes skip the lookups too
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<Website> websites = websiteRepository.findByIsActiveTrue();
+        for (Website website : websites) {
+            try {
+                filters.put(website.getId(), load(website.getId()));
+            } catch (Exception e) {
+                log.warn("Could not load known posts of website {}: {}", website.getUrl(), e.getMessage());
+            }
+        }
+        log.info("Loaded known-post filters for {} websites", websites.size());
+    }
+
+    /**
+     * False when the website certainly has no post with this title or link
+     * @param canonicalLink Link from {@link UrlCanonicalizer}, or null
+     */
+    public boolean mightBeKnown(Long websiteId, String title, String canonicalLink) {
+        BloomFilter filter = filterFor(websiteId);
+        return filter.mightContain(titleKey(title))
+                || (canonicalLink != null && filter.mightContain(linkKey(canonicalLink)));
+    }
+
+    /**
+     * Records a post saved for the website
+     */
+    public void remember(Long websiteId, String title, String canonicalLink) {
+        BloomFilter filter = filterFor(websiteId);
+        filter.add(titleKey(title));
+        if (canonicalLink != null) {
+            filter.add(linkKey(canonicalLink));
+        }
+    }
+
+    private BloomFilter filterFor(Long websiteId) {
+        BloomFilter filter = filters.computeIfAbsent(websiteId, this::load);
+        if (filter.isSaturated()) {
+            // Outgrew its sizing; reload at twice the size before false positives pile up
+            filter = load(websiteId);
+            filters.put(websiteId, filter);
+        }
+        return filter;
+    }
+
+    private BloomFilter load(Long websiteId) {
+        List<BlogPostRepository.PostKey> keys = blogPostRepository.findPostKeys(websiteId);
+        BloomFilter filter = new BloomFilter(Math.max(keys.size() * 4L, MIN_CAPACITY), falsePositiveRate);
+        for (BlogPostRepository.PostKey key : keys) {
+            filter.add(titleKey(key.getTitle()));
+            if (key.getCanonicalLink() != null) {
+                filter.add(linkKey(key.getCanonicalLink()));
+            }
+        }
+        return filter;
+    }
+
+    private static String titleKey(String title) {
+        return "t:" + title;
+    }
+
+    private static String linkKey(String canonicalLink) {
+        return "l:" + canonicalLink;
+    }
+}
@@ -0,0 +1,121 @@
+package com.platform.scrapper.dedupe;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reduces post links to one form per article, so the same post reached through different
+ * links dedupes: lower-case scheme and host, no default port, fragment, tracking parameters
+ * or trailing slash, and the remaining query parameters sorted. Medium posts, which are
+ * linked as /@user/slug-id, user.medium.com/slug-id or with the username repeated, all
+ * become https://medium.com/p/id.
+ */
+public final class UrlCanonicalizer {
+
+    private static final Set<String> TRACKING_PARAMS = Set.of(
+            "fbclid", "gclid", "dclid", "msclkid", "yclid", "mc_cid", "mc_eid", "_hsenc", "_hsmi",
+            "igshid", "ref", "ref_src", "referrer", "source", "sk", "trk", "si");
+
+    // Medium post slugs end in a 10-12 digit hex post id
+    private static final Pattern MEDIUM_POST_ID = Pattern.compile("(?:^|-)([0-9a-f]{10,12})$");
+
+    private UrlCanonicalizer() {
+    }
+
+    /**
+     * @return the canonical link, or null when {@code url} is blank or not an absolute http(s) URL
+     */
+    public static String canonicalize(String url) {
+        if (url == null || url.isBlank()) {
+            return null;
+        }
+
+        URI uri;
+        try {
+            uri = new URI(url.trim());
+        } catch (URISyntaxException e) {
+            return null;
+        }
+
+        String scheme = uri.getScheme() != null ? uri.getScheme().toLowerCase(Locale.ROOT) : null;
+        String host = uri.getHost() != null ? uri.getHost().toLowerCase(Locale.ROOT) : null;
+        if (host == null || !("http".equals(scheme) || "https".equals(scheme))) {
+            return null;
+        }
+        if (host.startsWith("www.")) {
+            host = host.substring(4);
+        }
+
+        String path = uri.getRawPath() == null ? "" : uri.getRawPath();
+        if (host.equals("medium.com") || host.endsWith(".medium.com")) {
+            String postId = mediumPostId(path);
+            if (postId != null) {
+                return "https://medium.com/p/" + postId;
+            }
+        }
+
+        StringBuilder canonical = new StringBuilder(scheme).append("://").append(host);
+        int port = uri.getPort();
+        if (port != -1 && !(port == 80 && scheme.equals("http")) && !(port == 443 && scheme.equals("https"))) {
+            canonical.append(':').append(port);
+        }
+
+        path = path.replaceAll("/{2,}", "/");
+        if (path.length() > 1 && path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        canonical.append(path.equals("/") ? "" : path);
+
+        String query = canonicalQuery(uri.getRawQuery());
+        if (!query.isEmpty()) {
+            canonical.append('?').append(query);
+        }
+        return canonical.toString();
+    }
+
+    /**
+     * Post id of a Medium post path, e.g. "/@user/some-title-1a2b3c4d5e6f" or "/p/1a2b3c4d5e6f"
+     */
+    private static String mediumPostId(String path) {
+        String[] segments = path.split("/");
+        for (int i = segments.length - 1; i >= 0; i--) {
+            if (segments[i].isEmpty()) {
+                continue;
+            }
+            // Profile, tag and list pages are not posts
+            if (segments[i].startsWith("@") || (i > 0 && segments[i - 1].matches("tag|tagged|list|lists|m"))) {
+                return null;
+            }
+            Matcher matcher = MEDIUM_POST_ID.matcher(segments[i]);
+            boolean postSegment = matcher.find() && (segments[i].contains("-") || (i > 0 && segments[i - 1].equals("p")));
+            return postSegment ? matcher.group(1) : null;
+        }
+        return null;
+    }
+
+    private static String canonicalQuery(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return "";
+        }
+
+        List<String> params = new ArrayList<>();
+        for (String param : rawQuery.split("&")) {
+            if (param.isEmpty()) {
+                continue;
+            }
+            int eq = param.indexOf('=');
+            String name = (eq >= 0 ? param.substring(0, eq) : param).toLowerCase(Locale.ROOT);
+            if (!name.startsWith("utm_") && !TRACKING_PARAMS.contains(name)) {
+                params.add(param);
+            }
+        }
+        params.sort(null);
+        return String.join("&", params);
+    }
+}
@@ -0,0 +1,62 @@
+package com.platform.scrapper.domain;
+
+import com.platform.common.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * Full text of a scraped post's article, fetched separately from the listing
+ */
+@Entity
+@Table(name = "article_content")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArticleContent extends BaseEntity {
+    
+    @Column(name = "blog_post_id", nullable = false, unique = true)
+    private Long blogPostId;
+    
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String url;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ArticleContentStatus status;
+    
+    @Column(nullable = false)
+    private int attempts;
+    
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+    
+    @Column
+    private String leasedBy;
+    
+    @Column
+    private LocalDateTime leaseExpiresAt;
+    
+    @ToString.Exclude
+    @Column(columnDefinition = "BYTEA")
+    private byte[] content; // gzip of the extracted text, see GzipCodec
+    
+    @Column
+    private Integer contentLength;
+    
+    @Column
+    private LocalDateTime fetchedAt;
+    
+    @Column(columnDefinition = "TEXT")
+    private String lastError;
+}
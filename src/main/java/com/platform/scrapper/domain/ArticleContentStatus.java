@@ -0,0 +1,9 @@
+package com.platform.scrapper.domain;
+
+public enum ArticleContentStatus {
+    PENDING,
+    FETCHING,
+    FETCHED,
+    SKIPPED, // Disallowed by robots.txt or no article body found
+    FAILED
+}
@@ -28,9 +28,18 @@ public class BlogPost extends BaseEntity {
     @Column(columnDefinition = "TEXT")
     private String attachments; // JSON array of attachment URLs
     
+    @Column(name = "canonical_link", columnDefinition = "TEXT")
+    private String canonicalLink; // Source link normalised by UrlCanonicalizer
+    
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt; // Publish date on the source site, in UTC
+    
     @Column(name = "created_by", nullable = false)
     private Long createdBy;
     
+    @Column(name = "website_id")
+    private Long websiteId; // Set only on scraped posts; scopes the duplicate checks to the source website
+    
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
     
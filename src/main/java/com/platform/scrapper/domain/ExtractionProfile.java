@@ -0,0 +1,67 @@
+package com.platform.scrapper.domain;
+
+import com.platform.common.BaseEntity;
+import com.platform.scrapper.extract.SiteVariant;
+import com.platform.scrapper.fetch.FetchMode;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * How to scrape one website. Blank selectors fall back to the built-in plan for the site.
+ */
+@Entity
+@Table(name = "extraction_profile")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExtractionProfile extends BaseEntity {
+    
+    @Column(name = "website_id", nullable = false, unique = true)
+    private Long websiteId;
+    
+    @Column(length = 500)
+    private String containerSelector; // Selector matching one post card
+    
+    @Column(length = 500)
+    private String titleSelector;
+    
+    @Column(length = 500)
+    private String linkSelector;
+    
+    @Column(length = 500)
+    private String authorSelector;
+    
+    @Column(length = 500)
+    private String dateSelector;
+    
+    @Column(length = 500)
+    private String readTimeSelector;
+    
+    @Column(length = 500)
+    private String excerptSelector;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private FetchMode fetchMode; // Null lets the scraper pick and remember one
+    
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private SiteVariant variant; // Null picks one from the website's host
+    
+    @Column
+    private Integer scrollDepth; // Browser scrolls before reading the page
+    
+    @Column(length = 35)
+    private String dateLocale; // BCP 47 tag, e.g. "en" or "fr-FR"
+    
+    @Column(nullable = false)
+    private boolean learned; // Written by the scraper from a successful probe
+}
@@ -0,0 +1,72 @@
+package com.platform.scrapper.domain;
+
+import com.platform.common.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One scrape of one website, leased by a single app instance at a time
+ */
+@Entity
+@Table(name = "scrape_job")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScrapeJob extends BaseEntity {
+    
+    @Column(name = "website_id", nullable = false)
+    private Long websiteId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ScrapeJobStatus status;
+    
+    @Column(nullable = false)
+    private LocalDateTime dueAt;
+    
+    @Column(nullable = false)
+    private int attempts;
+    
+    @Column(nullable = false)
+    private int maxAttempts;
+    
+    @Column
+    private String leasedBy; // Node id of the instance running the job
+    
+    @Column
+    private LocalDateTime leaseExpiresAt; // Another node may reclaim the job after this
+    
+    @Column
+    private LocalDateTime heartbeatAt;
+    
+    @Column
+    private LocalDateTime startedAt;
+    
+    @Column
+    private LocalDateTime finishedAt;
+    
+    @Column
+    private Long durationMs;
+    
+    @Column
+    private Integer postsFound;
+    
+    @Column
+    private Integer newPosts;
+    
+    @Column
+    private Boolean unchanged;
+    
+    @Column(columnDefinition = "TEXT")
+    private String lastError;
+}
@@ -0,0 +1,8 @@
+package com.platform.scrapper.domain;
+
+public enum ScrapeJobStatus {
+    PENDING,
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+}
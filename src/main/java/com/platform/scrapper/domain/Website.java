@@ -9,6 +9,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Table(name = "website")
 @Data
@@ -33,9 +35,30 @@ public class Website extends BaseEntity {
     private boolean isScraped = false;
     
     @Column
-    private String lastScrapedAt;
+    private LocalDateTime lastScrapedAt;
+    
+    @Column
+    private LocalDateTime lastChangedAt; // Last scrape that found the listing changed
+    
+    @Column(length = 500)
+    private String etag;
+    
+    @Column(length = 100)
+    private String lastModified;
+    
+    @Column(length = 64)
+    private String contentHash; // SHA-256 of the parsed listing
     
     @Column
     private Integer totalPostsScraped = 0;
+    
+    @Column
+    private Double changeRate; // Decayed average of new posts per hour
+    
+    @Column
+    private LocalDateTime nextScrapeAt; // Null means due now
+    
+    @Column(nullable = false)
+    private int consecutiveFailures; // Failed scrapes since the last success
 }
 
@@ -0,0 +1,18 @@
+package com.platform.scrapper.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Payload of EventTypes.BLOG_POST_CREATED, keyed by blog post id
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlogPostCreatedEvent {
+    private Long blogPostId;
+    private Long createdBy;
+}
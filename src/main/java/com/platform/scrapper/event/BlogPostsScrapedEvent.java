@@ -0,0 +1,23 @@
+package com.platform.scrapper.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Payload of EventTypes.BLOG_POSTS_SCRAPED, keyed by website id. One event per scrape that
+ * saved new posts; batch inserts do not return ids, so listeners look the posts up by
+ * website and creation time.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlogPostsScrapedEvent {
+    private Long websiteId;
+    private int newPosts;
+    private LocalDateTime scrapedAt;
+}
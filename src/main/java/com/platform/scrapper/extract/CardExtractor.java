@@ -0,0 +1,194 @@
+package com.platform.scrapper.extract;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.select.Elements;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.NodeTraversor;
+import org.jsoup.select.NodeVisitor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Pulls the fields of every post card on a listing page using a {@link SelectorPlan}.
+ * Each card is walked once; every field takes the first element in document order that
+ * matches its evaluator, exactly as {@code selectFirst} would, without one walk per field.
+ */
+@Slf4j
+public final class CardExtractor {
+
+    private static final Pattern MINUTES_PATTERN = Pattern.compile("\\d+\\s*min");
+
+    private CardExtractor() {
+    }
+
+    /**
+     * Raw fields of one post card; values are trimmed and empty when not found
+     */
+    @Data
+    @Builder
+    public static class Card {
+        private String title;
+        private String href;
+        private String author;
+        private String publishDate;
+        private String readTime;
+        private String excerpt;
+    }
+
+    /**
+     * Cards found on a page and the container selector that found them
+     */
+    @Data
+    @Builder
+    public static class Extraction {
+        private List<Card> cards;
+        private String containerSelector; // Null when no container matched
+    }
+
+    /**
+     * Extracts cards from the first container selector that matches anything
+     * @param dateLocale language of month names in the fallback date scan
+     */
+    public static Extraction extract(Document doc, SelectorPlan plan, Locale dateLocale) {
+        List<Card> cards = new ArrayList<>();
+        String containerSelector = null;
+        for (int i = 0; i < plan.getContainers().size(); i++) {
+            Elements containers = doc.select(plan.getContainers().get(i));
+            if (containers.isEmpty()) {
+                continue;
+            }
+
+            containerSelector = plan.getContainerSelectors().get(i);
+            log.debug("Found {} posts with selector: {}", containers.size(), containerSelector);
+            for (Element container : containers) {
+                Card card = extractCard(container, plan, dateLocale);
+                if (!card.getTitle().isEmpty()) {
+                    cards.add(card);
+                }
+            }
+            break; // Use the first working selector
+        }
+        return Extraction.builder().cards(cards).containerSelector(containerSelector).build();
+    }
+
+    /**
+     * Collects every field of one card in a single traversal of its subtree
+     */
+    public static Card extractCard(Element card, SelectorPlan plan, Locale dateLocale) {
+        CardVisitor visitor = new CardVisitor(card, plan, dateLocale);
+        NodeTraversor.traverse(visitor, card);
+        return visitor.toCard();
+    }
+
+    private static class CardVisitor implements NodeVisitor {
+        private final Element root;
+        private final SelectorPlan plan;
+        private final Locale dateLocale;
+
+        private Element title;
+        private Element link;
+        private Element author;
+        private Element date;
+        private Element readTime;
+        private Element excerpt;
+        private String scannedDate;
+        private String scannedReadTime;
+
+        private CardVisitor(Element root, SelectorPlan plan, Locale dateLocale) {
+            this.root = root;
+            this.plan = plan;
+            this.dateLocale = dateLocale;
+        }
+
+        @Override
+        public void head(Node node, int depth) {
+            if (!(node instanceof Element element)) {
+                return;
+            }
+
+            if (title == null && matches(plan.getTitle(), element)) {
+                title = element;
+            }
+            if (link == null && matches(plan.getLink(), element)) {
+                link = element;
+            }
+            if (author == null && matches(plan.getAuthor(), element)) {
+                author = element;
+            }
+            if (date == null && matches(plan.getDate(), element)) {
+                date = element;
+            }
+            if (readTime == null && matches(plan.getReadTime(), element)) {
+                readTime = element;
+            }
+            if (excerpt == null && matches(plan.getExcerpt(), element)) {
+                excerpt = element;
+            }
+
+            if ((plan.isScanForDate() || plan.isScanForReadTime()) && isScanCandidate(element)) {
+                String text = element.ownText().trim();
+                if (!text.isEmpty()) {
+                    if (plan.isScanForDate() && scannedDate == null && PublishDateNormalizer.looksLikeDate(text, dateLocale)) {
+                        scannedDate = text;
+                    }
+                    if (plan.isScanForReadTime() && scannedReadTime == null && isReadTime(text.toLowerCase())) {
+                        scannedReadTime = text;
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void tail(Node node, int depth) {
+        }
+
+        private boolean matches(Evaluator evaluator, Element element) {
+            return evaluator != null && evaluator.matches(root, element);
+        }
+
+        private Card toCard() {
+            String publishDate = "";
+            if (date != null) {
+                publishDate = date.attr("datetime");
+                if (publishDate.isEmpty()) {
+                    publishDate = date.text().trim();
+                }
+            } else if (scannedDate != null) {
+                publishDate = scannedDate;
+            }
+
+            String readTimeText = readTime != null ? readTime.text().trim()
+                    : scannedReadTime != null ? scannedReadTime : "";
+
+            return Card.builder()
+                    .title(text(title))
+                    .href(link != null ? link.attr("href") : "")
+                    .author(text(author))
+                    .publishDate(publishDate)
+                    .readTime(readTimeText)
+                    .excerpt(text(excerpt))
+                    .build();
+        }
+
+        private static String text(Element element) {
+            return element != null ? element.text().trim() : "";
+        }
+
+        private static boolean isScanCandidate(Element element) {
+            String tag = element.normalName();
+            return tag.equals("span") || tag.equals("div") || tag.equals("time");
+        }
+
+        private static boolean isReadTime(String text) {
+            return (text.contains("min") && text.contains("read")) || MINUTES_PATTERN.matcher(text).find();
+        }
+    }
+}
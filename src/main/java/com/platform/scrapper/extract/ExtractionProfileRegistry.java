@@ -0,0 +1,143 @@
+package com.platform.scrapper.extract;
+
+import com.platform.scrapper.domain.ExtractionProfile;
+import com.platform.scrapper.domain.Website;
+import com.platform.scrapper.repository.ExtractionProfileRepository;
+import com.platform.scrapper.repository.WebsiteRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Compiled extraction profiles by website id. Profiles changed or deleted in the database
+ * are picked up by a periodic poll, so selectors can be fixed without a restart.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExtractionProfileRegistry {
+
+    // Re-read profiles updated slightly before the last load, in case a transaction committed late
+    private static final long RELOAD_OVERLAP_SECONDS = 60;
+
+    private final ExtractionProfileRepository profileRepository;
+    private final WebsiteRepository websiteRepository;
+
+    private final Map<Long, SiteProfile> profiles = new ConcurrentHashMap<>();
+
+    private volatile LocalDateTime loadedUpTo; // Null until the first full load
+
+    /**
+     * Profile for a website, or the built-in one when none is stored
+     */
+    public SiteProfile profileFor(Website website) {
+        SiteProfile profile = profiles.get(website.getId());
+        return profile != null ? profile : SiteProfile.defaultFor(website.getUrl());
+    }
+
+    /**
+     * Loads profiles changed since the last load and drops deleted ones; the first run loads
+     * all of them
+     */
+    @Scheduled(fixedDelayString = "${blog.scraper.profiles.reload-interval-ms:30000}")
+    public void reload() {
+        LocalDateTime since = loadedUpTo;
+        if (since != null) {
+            evictDeleted();
+        }
+        List<ExtractionProfile> changed = since == null
+                ? profileRepository.findAll()
+                : profileRepository.findByUpdatedAtAfter(since.minusSeconds(RELOAD_OVERLAP_SECONDS));
+
+        if (changed.isEmpty()) {
+            if (since == null) {
+                loadedUpTo = LocalDateTime.now();
+            }
+            return;
+        }
+
+        Map<Long, Website> websites = websiteRepository
+                .findAllById(changed.stream().map(ExtractionProfile::getWebsiteId).toList())
+                .stream()
+                .collect(Collectors.toMap(Website::getId, Function.identity()));
+
+        LocalDateTime newest = since;
+        for (ExtractionProfile profile : changed) {
+            Website website = websites.get(profile.getWebsiteId());
+            if (website != null) {
+                install(profile, website);
+            }
+            if (newest == null || profile.getUpdatedAt().isAfter(newest)) {
+                newest = profile.getUpdatedAt();
+            }
+        }
+        loadedUpTo = newest;
+    }
+
+    /**
+     * Stores the container selector that a probe found for a website without a hand-written
+     * profile, so later scrapes go straight to it
+     */
+    public void recordLearned(Website website, String containerSelector) {
+        if (containerSelector == null) {
+            return;
+        }
+
+        SiteProfile current = profiles.get(website.getId());
+        if (current != null && (!current.isLearned()
+                || containerSelector.equals(current.getPlan().getContainerSelectors().get(0)))) {
+            return;
+        }
+
+        try {
+            ExtractionProfile profile = profileRepository.findByWebsiteId(website.getId())
+                    .orElseGet(() -> ExtractionProfile.builder()
+                            .websiteId(website.getId())
+                            .learned(true)
+                            .build());
+            if (!profile.isLearned()) {
+                return;
+            }
+
+            profile.setContainerSelector(containerSelector);
+            install(profileRepository.save(profile), website);
+            log.info("Learned container selector '{}' for website {}", containerSelector, website.getUrl());
+        } catch (Exception e) {
+            log.warn("Could not store learned profile for website {}: {}", website.getUrl(), e.getMessage());
+        }
+    }
+
+    /**
+     * Ids are read before anything is removed, so a profile learned meanwhile is at worst
+     * dropped once and loaded again by the next reload
+     */
+    private void evictDeleted() {
+        Set<Long> stored = new HashSet<>(profileRepository.findAllWebsiteIds());
+        profiles.keySet().removeIf(websiteId -> {
+            if (stored.contains(websiteId)) {
+                return false;
+            }
+            log.info("Extraction profile for website {} was deleted; using the built-in one", websiteId);
+            return true;
+        });
+    }
+
+    private void install(ExtractionProfile profile, Website website) {
+        try {
+            profiles.put(profile.getWebsiteId(), SiteProfile.compile(profile, website.getUrl()));
+        } catch (RuntimeException e) {
+            // Keep serving the previous plan until the profile is fixed
+            log.error("Invalid extraction profile {} for website {}: {}", profile.getId(), website.getUrl(), e.getMessage());
+        }
+    }
+}
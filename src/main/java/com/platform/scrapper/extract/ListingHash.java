@@ -0,0 +1,50 @@
+package com.platform.scrapper.extract;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Hash of every link and its text on a listing page. It tracks the listing itself while
+ * ignoring markup, scripts and other noise that changes between otherwise identical loads.
+ * Links are fed in document order, so a streamed page hashes the same as the parsed one.
+ */
+public class ListingHash {
+
+    private final MessageDigest digest;
+
+    public ListingHash() {
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public static String of(Document doc) {
+        ListingHash hash = new ListingHash();
+        for (Element link : doc.select("a[href]")) {
+            hash.add(link);
+        }
+        return hash.finish();
+    }
+
+    public static boolean isLink(Element element) {
+        return element.normalName().equals("a") && element.hasAttr("href");
+    }
+
+    public void add(Element link) {
+        digest.update(link.attr("href").getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(link.text().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+    }
+
+    public String finish() {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
@@ -0,0 +1,336 @@
+package com.platform.scrapper.extract;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.TextStyle;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Turns the publish dates found on blog listings ("2025-07-22T10:15:00Z", "Jul 22, 2025",
+ * "22 Jul", "Added 20h ago", "yesterday") into instants.
+ * Text is split into number and word tokens in one pass and matched against those tokens,
+ * so no regex is compiled or run per call. Dates without a zone are taken as UTC.
+ */
+public final class PublishDateNormalizer {
+
+    private static final DateTimeFormatter DISPLAY_FORMATTER =
+            DateTimeFormatter.ofPattern("MMM dd, yyyy 'at' HH:mm", Locale.ENGLISH).withZone(ZoneOffset.UTC);
+
+    // Lower-cased short and full month names to month number, built once per locale
+    private static final Map<Locale, Map<String, Integer>> MONTHS = new ConcurrentHashMap<>();
+
+    private PublishDateNormalizer() {
+    }
+
+    /**
+     * @return the publish instant, or null when the text holds no recognisable date
+     */
+    public static Instant normalize(String text) {
+        return normalize(text, Locale.ENGLISH, Instant.now());
+    }
+
+    /**
+     * @param locale language of month names in the text; relative dates are always read as English
+     * @return the publish instant, or null when the text holds no recognisable date
+     */
+    public static Instant normalize(String text, Locale locale) {
+        return normalize(text, locale, Instant.now());
+    }
+
+    /**
+     * @param now reference point for relative dates ("3 days ago") and year-less dates ("Jul 22")
+     * @return the publish instant, or null when the text holds no recognisable date
+     */
+    public static Instant normalize(String text, Locale locale, Instant now) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+
+        String trimmed = text.trim();
+        if (isIsoDate(trimmed)) {
+            return parseIso(trimmed);
+        }
+
+        List<Token> tokens = tokenize(trimmed);
+        Instant relative = parseRelative(tokens, now);
+        return relative != null ? relative : parseAbsolute(tokens, monthNames(locale), now);
+    }
+
+    /**
+     * Cheap check used when scanning candidate elements for a date
+     */
+    public static boolean looksLikeDate(String text, Locale locale) {
+        return normalize(text, locale) != null;
+    }
+
+    /**
+     * Display form used in generated reports, e.g. "Jul 22, 2025 at 10:15"
+     */
+    public static String format(Instant instant) {
+        return instant == null ? "" : DISPLAY_FORMATTER.format(instant);
+    }
+
+    private static boolean isIsoDate(String text) {
+        // yyyy-MM-dd prefix
+        if (text.length() < 10 || text.charAt(4) != '-' || text.charAt(7) != '-') {
+            return false;
+        }
+        for (int i = 0; i < 10; i++) {
+            if (i != 4 && i != 7 && !Character.isDigit(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Instant parseIso(String text) {
+        try {
+            if (text.length() == 10) {
+                return LocalDate.parse(text, DateTimeFormatter.ISO_LOCAL_DATE).atStartOfDay(ZoneOffset.UTC).toInstant();
+            }
+            // Accepts offset, zoned and local forms alike
+            Object parsed = DateTimeFormatter.ISO_DATE_TIME.parseBest(text,
+                    ZonedDateTime::from, OffsetDateTime::from, LocalDateTime::from);
+            if (parsed instanceof ZonedDateTime zoned) {
+                return zoned.toInstant();
+            }
+            if (parsed instanceof OffsetDateTime offset) {
+                return offset.toInstant();
+            }
+            return ((LocalDateTime) parsed).toInstant(ZoneOffset.UTC);
+        } catch (DateTimeParseException e) {
+            try {
+                return LocalDate.parse(text.substring(0, 10), DateTimeFormatter.ISO_LOCAL_DATE)
+                        .atStartOfDay(ZoneOffset.UTC).toInstant();
+            } catch (DateTimeParseException e2) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * "20h ago", "3 days ago", "5 min ago", "yesterday", "just now", or a bare "20h" or "4d"
+     */
+    private static Instant parseRelative(List<Token> tokens, Instant now) {
+        // Only the whole text counts here, so "Sign up now" or "Start writing today" is not a date
+        switch (phrase(tokens)) {
+            case "now", "just now", "today" -> {
+                return now;
+            }
+            case "yesterday" -> {
+                return now.minus(1, ChronoUnit.DAYS);
+            }
+            default -> {
+            }
+        }
+        
+        boolean ago = false;
+        for (Token token : tokens) {
+            if (token.isWord()) {
+                if (token.word.equals("ago")) {
+                    ago = true;
+                } else if (token.word.equals("read")) {
+                    return null; // "5 min read" is a read time, not a date
+                }
+            }
+        }
+        // Without "ago" only a lone compact amount counts ("20h", "4d"); "5 min" alone is a read time
+        if (!ago && (tokens.size() != 2 || !tokens.get(1).isWord() || tokens.get(1).word.length() != 1)) {
+            return null;
+        }
+
+        for (int i = 0; i + 1 < tokens.size(); i++) {
+            Token amount = tokens.get(i);
+            Token unit = tokens.get(i + 1);
+            if (amount.isNumber() && unit.isWord()) {
+                Duration duration = relativeDuration(amount.number, unit.word);
+                if (duration != null) {
+                    return now.minus(duration);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Duration relativeDuration(int amount, String unit) {
+        return switch (unit) {
+            case "s", "sec", "secs", "second", "seconds" -> Duration.ofSeconds(amount);
+            case "m", "min", "mins", "minute", "minutes" -> Duration.ofMinutes(amount);
+            case "h", "hr", "hrs", "hour", "hours" -> Duration.ofHours(amount);
+            case "d", "day", "days" -> Duration.ofDays(amount);
+            case "w", "wk", "wks", "week", "weeks" -> Duration.ofDays(7L * amount);
+            case "mo", "mos", "month", "months" -> Duration.ofDays(30L * amount);
+            case "y", "yr", "yrs", "year", "years" -> Duration.ofDays(365L * amount);
+            default -> null;
+        };
+    }
+
+    /**
+     * "Jul 22, 2025", "July 22", "22 Jul 2025"
+     */
+    private static Instant parseAbsolute(List<Token> tokens, Map<String, Integer> months, Instant now) {
+        for (int i = 0; i < tokens.size(); i++) {
+            int month = monthOf(tokens.get(i), months);
+            if (month == 0) {
+                continue;
+            }
+
+            Integer day = null;
+            Integer year = null;
+            if (i + 1 < tokens.size() && isDay(tokens.get(i + 1))) {
+                day = tokens.get(i + 1).number;
+                if (i + 2 < tokens.size() && isYear(tokens.get(i + 2))) {
+                    year = tokens.get(i + 2).number;
+                }
+            } else if (i > 0 && isDay(tokens.get(i - 1))) {
+                day = tokens.get(i - 1).number;
+                if (i + 1 < tokens.size() && isYear(tokens.get(i + 1))) {
+                    year = tokens.get(i + 1).number;
+                }
+            }
+            if (day == null) {
+                continue;
+            }
+
+            return toInstant(year, month, day, now);
+        }
+        return null;
+    }
+
+    private static Instant toInstant(Integer year, int month, int day, Instant now) {
+        try {
+            if (year != null) {
+                return LocalDate.of(year, month, day).atStartOfDay(ZoneOffset.UTC).toInstant();
+            }
+            // Listings drop the year for recent posts; a date still ahead of us belongs to last year
+            int currentYear = now.atOffset(ZoneOffset.UTC).getYear();
+            Instant thisYear = LocalDate.of(currentYear, month, day).atStartOfDay(ZoneOffset.UTC).toInstant();
+            return thisYear.isAfter(now)
+                    ? LocalDate.of(currentYear - 1, month, day).atStartOfDay(ZoneOffset.UTC).toInstant()
+                    : thisYear;
+        } catch (java.time.DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Month number when the token is a whole short or full month name, so "Decision" is not December
+     */
+    private static int monthOf(Token token, Map<String, Integer> months) {
+        if (!token.isWord()) {
+            return 0;
+        }
+        return months.getOrDefault(token.word, 0);
+    }
+
+    private static Map<String, Integer> monthNames(Locale locale) {
+        return MONTHS.computeIfAbsent(locale, l -> {
+            Map<String, Integer> months = new HashMap<>();
+            for (int m = 1; m <= 12; m++) {
+                for (TextStyle style : new TextStyle[] {TextStyle.SHORT, TextStyle.FULL}) {
+                    // Letters only, e.g. "janv." -> "janv", so they compare with word tokens
+                    String name = Month.of(m).getDisplayName(style, l).toLowerCase(Locale.ROOT);
+                    months.put(name.replaceAll("[^\\p{L}]", ""), m);
+                }
+            }
+            return Map.copyOf(months);
+        });
+    }
+
+    /**
+     * The words of the text joined by single spaces, or "" when it holds a number
+     */
+    private static String phrase(List<Token> tokens) {
+        if (tokens.isEmpty() || tokens.size() > 2) {
+            return "";
+        }
+        for (Token token : tokens) {
+            if (!token.isWord()) {
+                return "";
+            }
+        }
+        return tokens.size() == 1 ? tokens.get(0).word : tokens.get(0).word + " " + tokens.get(1).word;
+    }
+
+    private static boolean isDay(Token token) {
+        return token.isNumber() && token.digits <= 2 && token.number >= 1 && token.number <= 31;
+    }
+
+    private static boolean isYear(Token token) {
+        return token.isNumber() && token.digits == 4;
+    }
+
+    /**
+     * Splits text into lower-cased letter runs and digit runs; everything else separates tokens
+     */
+    private static List<Token> tokenize(String text) {
+        List<Token> tokens = new ArrayList<>(8);
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (Character.isDigit(c)) {
+                int start = i;
+                int value = 0;
+                while (i < length && Character.isDigit(text.charAt(i))) {
+                    if (i - start < 9) {
+                        value = value * 10 + (text.charAt(i) - '0');
+                    }
+                    i++;
+                }
+                tokens.add(Token.number(value, i - start));
+            } else if (Character.isLetter(c)) {
+                int start = i;
+                while (i < length && Character.isLetter(text.charAt(i))) {
+                    i++;
+                }
+                tokens.add(Token.word(text.substring(start, i).toLowerCase(Locale.ROOT)));
+            } else {
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    private static final class Token {
+        private final String word;
+        private final int number;
+        private final int digits;
+
+        private Token(String word, int number, int digits) {
+            this.word = word;
+            this.number = number;
+            this.digits = digits;
+        }
+
+        static Token word(String word) {
+            return new Token(word, 0, 0);
+        }
+
+        static Token number(int number, int digits) {
+            return new Token(null, number, digits);
+        }
+
+        boolean isWord() {
+            return word != null;
+        }
+
+        boolean isNumber() {
+            return word == null;
+        }
+    }
+}
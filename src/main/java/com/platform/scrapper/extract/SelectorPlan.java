@@ -0,0 +1,94 @@
+package com.platform.scrapper.extract;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.QueryParser;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CSS selectors for one kind of listing page, parsed once into jsoup evaluators.
+ * Evaluators are stateless, so a plan is shared across threads and pages.
+ */
+@Getter
+public class SelectorPlan {
+
+    // Selector strings repeat across profiles; parse each only once
+    private static final Map<String, Evaluator> COMPILED = new ConcurrentHashMap<>();
+
+    public static final SelectorPlan MEDIUM = SelectorPlan.builder()
+            .containerSelectors(List.of("article", "[data-testid='postPreview']", ".postArticle", ".post",
+                    "[class*='post']", "[class*='article']"))
+            .titleSelector("h1, h2, h3, h4, h5, h6, [data-testid='postPreviewTitle'], .title, [class*='title']")
+            .linkSelector("a[href]")
+            .authorSelector("[data-testid='authorName'], .author, [class*='author']")
+            .dateSelector("time, .date, [class*='date'], [datetime], [data-testid='publishDate'], [class*='publish']")
+            .readTimeSelector("[data-testid='readTime'], .readTime, [class*='readTime'], [class*='time'], span:contains(min), span:contains(read)")
+            .excerptSelector("[data-testid='postPreviewSnippet'], .excerpt, [class*='excerpt'], p")
+            .scanForDate(true)
+            .scanForReadTime(true)
+            .build();
+
+    public static final SelectorPlan GENERIC = SelectorPlan.builder()
+            .containerSelectors(List.of("article", ".post", ".blog-post", ".entry", ".content-item",
+                    "[class*='post']", "[class*='article']", "[class*='blog']"))
+            .titleSelector("h1, h2, h3, h4, h5, h6, .title, [class*='title']")
+            .linkSelector("a[href]")
+            .build();
+
+    private final List<String> containerSelectors;
+    private final String titleSelector;
+    private final String linkSelector;
+    private final String authorSelector;
+    private final String dateSelector;
+    private final String readTimeSelector;
+    private final String excerptSelector;
+    private final List<Evaluator> containers; // Tried in order; the first that matches anything wins
+    private final Evaluator title;
+    private final Evaluator link;
+    private final Evaluator author;
+    private final Evaluator date;
+    private final Evaluator readTime;
+    private final Evaluator excerpt;
+    private final boolean scanForDate; // Fall back to any span/div/time whose text parses as a date
+    private final boolean scanForReadTime; // Fall back to any span/div/time mentioning minutes
+
+    @Builder(toBuilder = true)
+    private SelectorPlan(List<String> containerSelectors, String titleSelector, String linkSelector,
+                         String authorSelector, String dateSelector, String readTimeSelector,
+                         String excerptSelector, boolean scanForDate, boolean scanForReadTime) {
+        this.containerSelectors = List.copyOf(containerSelectors);
+        this.titleSelector = titleSelector;
+        this.linkSelector = linkSelector;
+        this.authorSelector = authorSelector;
+        this.dateSelector = dateSelector;
+        this.readTimeSelector = readTimeSelector;
+        this.excerptSelector = excerptSelector;
+        this.containers = containerSelectors.stream().map(SelectorPlan::compile).toList();
+        this.title = compile(titleSelector);
+        this.link = compile(linkSelector);
+        this.author = compile(authorSelector);
+        this.date = compile(dateSelector);
+        this.readTime = compile(readTimeSelector);
+        this.excerpt = compile(excerptSelector);
+        this.scanForDate = scanForDate;
+        this.scanForReadTime = scanForReadTime;
+    }
+
+    /**
+     * Built-in plan for a site variant, used where a profile leaves selectors blank
+     */
+    public static SelectorPlan defaultFor(SiteVariant variant) {
+        return variant == SiteVariant.MEDIUM ? MEDIUM : GENERIC;
+    }
+
+    private static Evaluator compile(String selector) {
+        if (selector == null || selector.isBlank()) {
+            return null;
+        }
+        return COMPILED.computeIfAbsent(selector.trim(), QueryParser::parse);
+    }
+}
@@ -0,0 +1,89 @@
+package com.platform.scrapper.extract;
+
+import com.platform.scrapper.domain.ExtractionProfile;
+import com.platform.scrapper.fetch.FetchMode;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Compiled, immutable form of an {@link ExtractionProfile}
+ */
+@Getter
+@Builder
+public class SiteProfile {
+
+    public static final int DEFAULT_SCROLL_DEPTH = 3;
+
+    private final Long websiteId;
+    private final SiteVariant variant;
+    private final SelectorPlan plan;
+    private final FetchMode fetchMode; // Null lets the scraper pick and remember one
+    private final int scrollDepth;
+    private final Locale dateLocale;
+    private final boolean builtIn; // No stored profile; the plan probes the built-in container list
+    private final boolean learned;
+    private final LocalDateTime updatedAt;
+
+    /**
+     * Profile for a website that has no stored profile
+     */
+    public static SiteProfile defaultFor(String websiteUrl) {
+        SiteVariant variant = SiteVariant.guessFor(websiteUrl);
+        return SiteProfile.builder()
+                .variant(variant)
+                .plan(SelectorPlan.defaultFor(variant))
+                .scrollDepth(DEFAULT_SCROLL_DEPTH)
+                .dateLocale(Locale.ENGLISH)
+                .builtIn(true)
+                .build();
+    }
+
+    /**
+     * Compiles a stored profile; blank selectors keep the built-in ones for its variant.
+     * @throws org.jsoup.select.Selector.SelectorParseException if a selector is invalid
+     */
+    public static SiteProfile compile(ExtractionProfile profile, String websiteUrl) {
+        SiteVariant variant = profile.getVariant() != null ? profile.getVariant() : SiteVariant.guessFor(websiteUrl);
+        SelectorPlan.SelectorPlanBuilder plan = SelectorPlan.defaultFor(variant).toBuilder();
+        if (hasText(profile.getContainerSelector())) {
+            plan.containerSelectors(List.of(profile.getContainerSelector()));
+        }
+        if (hasText(profile.getTitleSelector())) {
+            plan.titleSelector(profile.getTitleSelector());
+        }
+        if (hasText(profile.getLinkSelector())) {
+            plan.linkSelector(profile.getLinkSelector());
+        }
+        if (hasText(profile.getAuthorSelector())) {
+            plan.authorSelector(profile.getAuthorSelector());
+        }
+        if (hasText(profile.getDateSelector())) {
+            plan.dateSelector(profile.getDateSelector());
+        }
+        if (hasText(profile.getReadTimeSelector())) {
+            plan.readTimeSelector(profile.getReadTimeSelector());
+        }
+        if (hasText(profile.getExcerptSelector())) {
+            plan.excerptSelector(profile.getExcerptSelector());
+        }
+
+        return SiteProfile.builder()
+                .websiteId(profile.getWebsiteId())
+                .variant(variant)
+                .plan(plan.build())
+                .fetchMode(profile.getFetchMode())
+                .scrollDepth(profile.getScrollDepth() != null ? profile.getScrollDepth() : DEFAULT_SCROLL_DEPTH)
+                .dateLocale(hasText(profile.getDateLocale()) ? Locale.forLanguageTag(profile.getDateLocale()) : Locale.ENGLISH)
+                .learned(profile.isLearned())
+                .updatedAt(profile.getUpdatedAt())
+                .build();
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
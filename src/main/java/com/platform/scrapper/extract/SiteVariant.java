@@ -0,0 +1,26 @@
+package com.platform.scrapper.extract;
+
+import java.net.URI;
+
+/**
+ * Which built-in selectors and card mapping a website gets
+ */
+public enum SiteVariant {
+    MEDIUM,  // Medium's selectors, Medium link cleanup and the link-based fallback
+    GENERIC; // Any other blog
+
+    /**
+     * Variant for a website whose profile does not set one: Medium for medium.com hosts
+     */
+    public static SiteVariant guessFor(String websiteUrl) {
+        try {
+            String host = URI.create(websiteUrl.trim()).getHost();
+            if (host != null && (host.equalsIgnoreCase("medium.com") || host.toLowerCase().endsWith(".medium.com"))) {
+                return MEDIUM;
+            }
+        } catch (IllegalArgumentException e) {
+            // Not a URL we can read; the generic mapping is the safe choice
+        }
+        return GENERIC;
+    }
+}
@@ -0,0 +1,119 @@
+package com.platform.scrapper.extract;
+
+import lombok.Builder;
+import lombok.Data;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.parser.Parser;
+import org.jsoup.parser.StreamParser;
+import org.jsoup.select.Evaluator;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Extracts post cards while the page is still being read, using jsoup's {@link StreamParser}.
+ * Each card is handed over as soon as its container element closes and is then pruned from
+ * the tree, so the whole document is never held in memory and the caller can stop early.
+ * Only plans with a single container selector can stream; probing a list of selectors for
+ * the first one that matches anything needs the whole page.
+ */
+public final class StreamingCardExtractor {
+
+    // Closed elements that never hold card fields; dropped to keep the partial tree small
+    private static final Set<String> PRUNED_TAGS = Set.of("script", "style", "noscript", "template");
+
+    private StreamingCardExtractor() {
+    }
+
+    /**
+     * Receives cards in the order their containers close
+     */
+    @FunctionalInterface
+    public interface CardSink {
+        /**
+         * @return false to stop reading the page
+         */
+        boolean accept(CardExtractor.Card card);
+    }
+
+    @Data
+    @Builder
+    public static class Result {
+        private int cards;
+        private boolean stoppedEarly;
+        private String listingHash; // Covers the links read before stopping
+    }
+
+    public static boolean supports(SelectorPlan plan) {
+        return plan.getContainers().size() == 1;
+    }
+
+    /**
+     * Streams cards matching the plan's container selector to {@code sink}
+     * @param dateLocale language of month names in the fallback date scan
+     * @throws IOException if reading the page fails
+     */
+    public static Result extract(Reader html, String baseUri, SelectorPlan plan, Locale dateLocale,
+                                 CardSink sink) throws IOException {
+        if (!supports(plan)) {
+            throw new IllegalArgumentException("Streaming needs a plan with exactly one container selector");
+        }
+
+        Evaluator container = plan.getContainers().get(0);
+        ListingHash hash = new ListingHash();
+        int cards = 0;
+        boolean stoppedEarly = false;
+
+        try (StreamParser streamer = new StreamParser(Parser.htmlParser())) {
+            streamer.parse(html, baseUri);
+            Document doc = streamer.document();
+            Iterator<Element> elements = streamer.iterator();
+            while (elements.hasNext()) {
+                Element element = elements.next();
+                if (ListingHash.isLink(element)) {
+                    hash.add(element);
+                }
+
+                if (container.matches(doc, element)) {
+                    CardExtractor.Card card = CardExtractor.extractCard(element, plan, dateLocale);
+                    // A card nested in another container is still part of the outer card's fields
+                    if (!insideContainer(doc, element, container)) {
+                        element.remove();
+                    }
+                    if (!card.getTitle().isEmpty()) {
+                        cards++;
+                        if (!sink.accept(card)) {
+                            stoppedEarly = true;
+                            streamer.stop();
+                            break;
+                        }
+                    }
+                } else if (PRUNED_TAGS.contains(element.normalName())) {
+                    element.remove();
+                }
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        return Result.builder()
+                .cards(cards)
+                .stoppedEarly(stoppedEarly)
+                .listingHash(hash.finish())
+                .build();
+    }
+
+    private static boolean insideContainer(Document doc, Element element, Evaluator container) {
+        for (Element parent = element.parent(); parent != null && parent != doc; parent = parent.parent()) {
+            if (container.matches(doc, parent)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
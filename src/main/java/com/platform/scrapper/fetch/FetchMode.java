@@ -0,0 +1,9 @@
+package com.platform.scrapper.fetch;
+
+/**
+ * How a website's listing page is fetched
+ */
+public enum FetchMode {
+    STATIC,  // Plain HTTP GET, parsed with Jsoup
+    BROWSER  // Rendered through a pooled headless Chrome session
+}
@@ -0,0 +1,25 @@
+package com.platform.scrapper.fetch;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.ToString;
+
+import java.io.InputStream;
+import java.nio.charset.Charset;
+
+@Data
+@Builder
+public class FetchedPage {
+    private String url;
+    private int statusCode;
+    private String html;
+    private String etag;
+    private String lastModified;
+    @ToString.Exclude
+    private InputStream body; // Unread body of a page from StaticPageFetcher.open; the caller closes it
+    private Charset charset;
+
+    public boolean isNotModified() {
+        return statusCode == 304;
+    }
+}
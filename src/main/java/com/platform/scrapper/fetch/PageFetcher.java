@@ -0,0 +1,22 @@
+package com.platform.scrapper.fetch;
+
+/**
+ * Source of listing and article pages. {@link StaticPageFetcher} fetches over HTTP; the
+ * replay package records its pages to disk and serves them back for offline runs.
+ */
+public interface PageFetcher {
+
+    /**
+     * Fetch a page, sending If-None-Match / If-Modified-Since when validators are known.
+     * A 304 answer comes back as a page with {@link FetchedPage#isNotModified()} set and no body.
+     * @return the page, or null when it could not be fetched as HTML
+     */
+    FetchedPage fetch(String url, PageValidators previous) throws InterruptedException;
+
+    /**
+     * Like {@link #fetch}, but a 200 page carries its unread body in {@link FetchedPage#getBody()}
+     * so it can be parsed while it downloads; the caller must close it.
+     * @return the page, or null when it could not be fetched as HTML
+     */
+    FetchedPage open(String url, PageValidators previous) throws InterruptedException;
+}
@@ -0,0 +1,20 @@
+package com.platform.scrapper.fetch;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * What we know about the last fetched version of a page: HTTP cache validators for
+ * conditional requests and a hash of the parsed listing
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PageValidators {
+    private String etag;
+    private String lastModified;
+    private String contentHash;
+}
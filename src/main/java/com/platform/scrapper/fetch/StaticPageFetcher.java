@@ -0,0 +1,120 @@
+package com.platform.scrapper.fetch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * Fetches pages with a plain HTTP client, without rendering JavaScript.
+ * One client is shared so connections are pooled across scrapes.
+ */
+@Component
+@Slf4j
+public class StaticPageFetcher implements PageFetcher {
+
+    @Value("${blog.scraper.web-driver.user-agent:Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/115 Safari/537.36}")
+    private String userAgent = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/115 Safari/537.36";
+
+    @Value("${blog.scraper.fetch.static-timeout-seconds:10}")
+    private long timeoutSeconds = 10;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @Override
+    public FetchedPage fetch(String url, PageValidators previous) throws InterruptedException {
+        try {
+            HttpResponse<String> response = httpClient.send(request(url, previous), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200 && response.statusCode() != 304) {
+                log.debug("Static fetch of {} returned HTTP {}", url, response.statusCode());
+                return null;
+            }
+
+            return FetchedPage.builder()
+                    .url(response.uri().toString())
+                    .statusCode(response.statusCode())
+                    .html(response.statusCode() == 200 ? response.body() : null)
+                    .etag(response.headers().firstValue("ETag").orElse(null))
+                    .lastModified(response.headers().firstValue("Last-Modified").orElse(null))
+                    .build();
+        } catch (IOException e) {
+            log.debug("Static fetch of {} failed: {}", url, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Returns as soon as the headers arrive; the body streams from the connection
+     */
+    @Override
+    public FetchedPage open(String url, PageValidators previous) throws InterruptedException {
+        try {
+            HttpResponse<InputStream> response = httpClient.send(request(url, previous), HttpResponse.BodyHandlers.ofInputStream());
+            if (response.statusCode() != 200 && response.statusCode() != 304) {
+                log.debug("Static fetch of {} returned HTTP {}", url, response.statusCode());
+                response.body().close();
+                return null;
+            }
+            if (response.statusCode() == 304) {
+                response.body().close();
+            }
+
+            return FetchedPage.builder()
+                    .url(response.uri().toString())
+                    .statusCode(response.statusCode())
+                    .body(response.statusCode() == 200 ? response.body() : null)
+                    .charset(charset(response))
+                    .etag(response.headers().firstValue("ETag").orElse(null))
+                    .lastModified(response.headers().firstValue("Last-Modified").orElse(null))
+                    .build();
+        } catch (IOException e) {
+            log.debug("Static fetch of {} failed: {}", url, e.getMessage());
+            return null;
+        }
+    }
+
+    private HttpRequest request(String url, PageValidators previous) {
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(timeoutSeconds))
+                .header("User-Agent", userAgent)
+                .header("Accept", "text/html,application/xhtml+xml")
+                .GET();
+        if (previous != null && previous.getEtag() != null) {
+            requestBuilder.header("If-None-Match", previous.getEtag());
+        }
+        if (previous != null && previous.getLastModified() != null) {
+            requestBuilder.header("If-Modified-Since", previous.getLastModified());
+        }
+        return requestBuilder.build();
+    }
+
+    /**
+     * Charset from the Content-Type header, UTF-8 when absent or unknown
+     */
+    private static Charset charset(HttpResponse<?> response) {
+        String contentType = response.headers().firstValue("Content-Type").orElse("");
+        for (String param : contentType.split(";")) {
+            String[] pair = param.trim().split("=", 2);
+            if (pair.length == 2 && pair[0].trim().equalsIgnoreCase("charset")) {
+                try {
+                    return Charset.forName(pair[1].trim().replace("\"", ""));
+                } catch (IllegalArgumentException e) {
+                    break;
+                }
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+}
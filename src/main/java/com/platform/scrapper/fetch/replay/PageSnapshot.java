@@ -0,0 +1,22 @@
+package com.platform.scrapper.fetch.replay;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.ToString;
+
+import java.time.Instant;
+
+/**
+ * A page as it was fetched or rendered, kept for offline replay
+ */
+@Data
+@Builder
+public class PageSnapshot {
+    private String url;
+    @ToString.Exclude
+    private String html;
+    private String etag;
+    private String lastModified;
+    private boolean rendered; // Page source after browser rendering rather than the HTTP body
+    private Instant recordedAt;
+}
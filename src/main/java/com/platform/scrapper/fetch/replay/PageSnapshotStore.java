@@ -0,0 +1,176 @@
+package com.platform.scrapper.fetch.replay;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+/**
+ * Recorded pages on disk, one directory per host: {@code <dir>/<host>/<key>.html} holds the
+ * page and {@code <key>.properties} its URL and validators. The key is a hash of the URL, so
+ * re-recording a page overwrites it.
+ */
+@Component
+@Slf4j
+public class PageSnapshotStore {
+
+    public enum Mode {
+        OFF,
+        RECORD, // Save every page the scraper fetches or renders
+        REPLAY // Serve saved pages instead of fetching
+    }
+
+    @Value("${blog.scraper.snapshots.mode:off}")
+    private String mode = "off";
+
+    @Value("${blog.scraper.snapshots.dir:scrape-snapshots}")
+    private String dir = "scrape-snapshots";
+
+    public PageSnapshotStore() {
+    }
+
+    public PageSnapshotStore(Path dir, Mode mode) {
+        this.dir = dir.toString();
+        this.mode = mode.name();
+    }
+
+    public Mode getMode() {
+        return Mode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+    }
+
+    public boolean isRecording() {
+        return getMode() == Mode.RECORD;
+    }
+
+    public Path getDir() {
+        return Path.of(dir);
+    }
+
+    /**
+     * Record a page when recording is on; failures are logged, never thrown into the scrape
+     */
+    public void record(PageSnapshot snapshot) {
+        if (!isRecording() || snapshot.getHtml() == null) {
+            return;
+        }
+        try {
+            save(snapshot);
+        } catch (UncheckedIOException e) {
+            log.warn("Could not record snapshot of {}: {}", snapshot.getUrl(), e.getMessage());
+        }
+    }
+
+    public void save(PageSnapshot snapshot) {
+        Path html = htmlPath(snapshot.getUrl());
+        Properties meta = new Properties();
+        meta.setProperty("url", snapshot.getUrl());
+        meta.setProperty("rendered", Boolean.toString(snapshot.isRendered()));
+        meta.setProperty("recordedAt", (snapshot.getRecordedAt() != null ? snapshot.getRecordedAt() : Instant.now()).toString());
+        if (snapshot.getEtag() != null) {
+            meta.setProperty("etag", snapshot.getEtag());
+        }
+        if (snapshot.getLastModified() != null) {
+            meta.setProperty("lastModified", snapshot.getLastModified());
+        }
+
+        try {
+            Files.createDirectories(html.getParent());
+            // Write to temp files first so a concurrent replay never sees a half-written page
+            Path htmlTmp = Files.createTempFile(html.getParent(), "snapshot", ".tmp");
+            Files.writeString(htmlTmp, snapshot.getHtml(), StandardCharsets.UTF_8);
+            Path metaTmp = Files.createTempFile(html.getParent(), "snapshot", ".tmp");
+            try (Writer writer = Files.newBufferedWriter(metaTmp, StandardCharsets.UTF_8)) {
+                meta.store(writer, null);
+            }
+            Files.move(htmlTmp, html, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Files.move(metaTmp, metaPath(html), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public Optional<PageSnapshot> load(String url) {
+        Path html = htmlPath(url);
+        return Files.exists(html) ? Optional.of(read(html)) : Optional.empty();
+    }
+
+    /**
+     * Every recorded page, in a stable order
+     */
+    public List<PageSnapshot> loadAll() {
+        Path root = getDir();
+        if (!Files.isDirectory(root)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.walk(root, 2)) {
+            List<PageSnapshot> snapshots = new ArrayList<>();
+            files.filter(path -> path.getFileName().toString().endsWith(".html"))
+                    .sorted()
+                    .forEach(path -> snapshots.add(read(path)));
+            return snapshots;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private PageSnapshot read(Path html) {
+        Properties meta = new Properties();
+        Path metaPath = metaPath(html);
+        try {
+            if (Files.exists(metaPath)) {
+                try (Reader reader = Files.newBufferedReader(metaPath, StandardCharsets.UTF_8)) {
+                    meta.load(reader);
+                }
+            }
+            return PageSnapshot.builder()
+                    .url(meta.getProperty("url"))
+                    .html(Files.readString(html, StandardCharsets.UTF_8))
+                    .etag(meta.getProperty("etag"))
+                    .lastModified(meta.getProperty("lastModified"))
+                    .rendered(Boolean.parseBoolean(meta.getProperty("rendered")))
+                    .recordedAt(meta.containsKey("recordedAt") ? Instant.parse(meta.getProperty("recordedAt")) : null)
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path htmlPath(String url) {
+        String host = URI.create(url).getHost();
+        String hostDir = host == null ? "_" : host.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9.-]", "_");
+        return getDir().resolve(hostDir).resolve(key(url) + ".html");
+    }
+
+    private static Path metaPath(Path html) {
+        String name = html.getFileName().toString();
+        return html.resolveSibling(name.substring(0, name.length() - ".html".length()) + ".properties");
+    }
+
+    private static String key(String url) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(url.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 12);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.platform.scrapper.fetch.replay;
+
+import com.platform.scrapper.fetch.FetchedPage;
+import com.platform.scrapper.fetch.PageFetcher;
+import com.platform.scrapper.fetch.PageValidators;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.time.Instant;
+
+/**
+ * Fetches through another fetcher and saves every 200 page to a {@link PageSnapshotStore}.
+ * Streamed bodies are copied as they are read and saved when closed, so a scrape that stops
+ * early records only what it read.
+ */
+public class RecordingPageFetcher implements PageFetcher {
+
+    private final PageFetcher delegate;
+    private final PageSnapshotStore store;
+
+    public RecordingPageFetcher(PageFetcher delegate, PageSnapshotStore store) {
+        this.delegate = delegate;
+        this.store = store;
+    }
+
+    @Override
+    public FetchedPage fetch(String url, PageValidators previous) throws InterruptedException {
+        FetchedPage page = delegate.fetch(url, previous);
+        if (page != null && page.getHtml() != null) {
+            store.record(snapshot(url, page, page.getHtml()));
+        }
+        return page;
+    }
+
+    @Override
+    public FetchedPage open(String url, PageValidators previous) throws InterruptedException {
+        FetchedPage page = delegate.open(url, previous);
+        if (page != null && page.getBody() != null) {
+            page.setBody(new RecordingInputStream(page.getBody(), url, page));
+        }
+        return page;
+    }
+
+    private static PageSnapshot snapshot(String url, FetchedPage page, String html) {
+        return PageSnapshot.builder()
+                .url(url)
+                .html(html)
+                .etag(page.getEtag())
+                .lastModified(page.getLastModified())
+                .recordedAt(Instant.now())
+                .build();
+    }
+
+    private class RecordingInputStream extends FilterInputStream {
+        private final ByteArrayOutputStream copy = new ByteArrayOutputStream();
+        private final String url;
+        private final FetchedPage page;
+        private boolean closed;
+
+        private RecordingInputStream(InputStream in, String url, FetchedPage page) {
+            super(in);
+            this.url = url;
+            this.page = page;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                copy.write(b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                copy.write(buffer, offset, read);
+            }
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                Charset charset = page.getCharset();
+                store.record(snapshot(url, page, copy.toString(charset)));
+            }
+            super.close();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.platform.scrapper.fetch.replay;
+
+import com.platform.scrapper.fetch.FetchedPage;
+import com.platform.scrapper.fetch.PageFetcher;
+import com.platform.scrapper.fetch.PageValidators;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Serves recorded pages instead of fetching. Every recorded page answers 200, whatever
+ * validators are sent, so each replayed scrape runs the full parse and extraction; pages
+ * that were never recorded answer like a failed fetch.
+ */
+public class ReplayPageFetcher implements PageFetcher {
+
+    private final Function<String, Optional<PageSnapshot>> lookup;
+
+    public ReplayPageFetcher(PageSnapshotStore store) {
+        this.lookup = store::load;
+    }
+
+    /**
+     * Replays pages held in memory, keyed by URL
+     */
+    public ReplayPageFetcher(Map<String, PageSnapshot> snapshots) {
+        this.lookup = url -> Optional.ofNullable(snapshots.get(url));
+    }
+
+    @Override
+    public FetchedPage fetch(String url, PageValidators previous) {
+        return lookup.apply(url)
+                .map(snapshot -> page(url, snapshot).html(snapshot.getHtml()).build())
+                .orElse(null);
+    }
+
+    @Override
+    public FetchedPage open(String url, PageValidators previous) {
+        return lookup.apply(url)
+                .map(snapshot -> page(url, snapshot)
+                        .body(new ByteArrayInputStream(snapshot.getHtml().getBytes(StandardCharsets.UTF_8)))
+                        .charset(StandardCharsets.UTF_8)
+                        .build())
+                .orElse(null);
+    }
+
+    private static FetchedPage.FetchedPageBuilder page(String url, PageSnapshot snapshot) {
+        return FetchedPage.builder()
+                .url(url)
+                .statusCode(200)
+                .etag(snapshot.getEtag())
+                .lastModified(snapshot.getLastModified());
+    }
+}
@@ -0,0 +1,79 @@
+package com.platform.scrapper.fetch.replay;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Local HTTP stand-in that serves recorded pages, so the real HTTP fetch path can be
+ * exercised offline. Pages are registered under a path and served from every loopback
+ * address; giving each site its own 127.x.y.z address keeps per-host politeness apart.
+ */
+public class ReplayServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, PageSnapshot> pages = new ConcurrentHashMap<>();
+
+    public ReplayServer(int threads) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(0), 0);
+        executor = Executors.newFixedThreadPool(Math.max(threads, 1));
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Serve {@code snapshot} at {@code path}, e.g. "/s/42"
+     */
+    public void register(String path, PageSnapshot snapshot) {
+        pages.put(path, snapshot);
+    }
+
+    /**
+     * URL of {@code path} on the loopback address reserved for site number {@code site}
+     */
+    public String urlFor(int site, String path) {
+        int address = site + 1; // 127.0.0.0 is not a host address
+        return "http://127." + (address >> 16 & 0xff) + "." + (address >> 8 & 0xff) + "." + (address & 0xff)
+                + ":" + getPort() + path;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            PageSnapshot snapshot = pages.get(exchange.getRequestURI().getPath());
+            if (snapshot == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            byte[] body = snapshot.getHtml().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/html; charset=UTF-8");
+            if (snapshot.getEtag() != null) {
+                exchange.getResponseHeaders().set("ETag", snapshot.getEtag());
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,189 @@
+package com.platform.scrapper.politeness;
+
+import com.platform.scrapper.fetch.FetchedPage;
+import com.platform.scrapper.fetch.PageFetcher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps scrapes polite per host: a token bucket spaces out requests, a semaphore caps
+ * concurrent fetches, and robots.txt rules (including Crawl-delay) are cached in memory.
+ * State is kept per host, so fetches to different hosts never wait on each other.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HostPoliteness {
+
+    private final PageFetcher pageFetcher;
+
+    @Value("${blog.scraper.politeness.requests-per-second:1.0}")
+    private double requestsPerSecond = 1.0;
+
+    @Value("${blog.scraper.politeness.burst:2}")
+    private int burst = 2;
+
+    @Value("${blog.scraper.politeness.max-concurrency-per-host:1}")
+    private int maxConcurrencyPerHost = 1;
+
+    @Value("${blog.scraper.politeness.acquire-timeout-seconds:60}")
+    private long acquireTimeoutSeconds = 60;
+
+    @Value("${blog.scraper.politeness.respect-robots:true}")
+    private boolean respectRobots = true;
+
+    @Value("${blog.scraper.politeness.robots-user-agent:BlogScraper}")
+    private String robotsUserAgent = "BlogScraper";
+
+    @Value("${blog.scraper.politeness.robots-ttl-hours:24}")
+    private long robotsTtlHours = 24;
+
+    @Value("${blog.scraper.politeness.max-crawl-delay-seconds:30}")
+    private long maxCrawlDelaySeconds = 30;
+
+    private final Map<String, HostState> hosts = new ConcurrentHashMap<>();
+
+    /**
+     * Whether robots.txt lets the scraper fetch this URL
+     */
+    public boolean isAllowed(String url) throws InterruptedException {
+        if (!respectRobots) {
+            return true;
+        }
+        URI uri = URI.create(url);
+        String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        if (uri.getRawQuery() != null) {
+            path = path + "?" + uri.getRawQuery();
+        }
+        return robotsFor(uri).isAllowed(path);
+    }
+
+    /**
+     * Wait for a concurrency slot and a token for the URL's host. Close the permit once the
+     * fetch is done.
+     */
+    public Permit acquire(String url) throws InterruptedException {
+        URI uri = URI.create(url);
+        HostState state = stateFor(uri);
+        if (!state.concurrency.tryAcquire(acquireTimeoutSeconds, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Timed out waiting for a fetch slot on " + uri.getHost());
+        }
+
+        try {
+            long waitNanos = state.bucket.reserve(intervalNanos(robotsFor(uri)), burst);
+            if (waitNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+        } catch (InterruptedException | RuntimeException e) {
+            state.concurrency.release();
+            throw e;
+        }
+        return new Permit(state);
+    }
+
+    /**
+     * Take a fetch slot on the URL's host only if one is free right now and a spare token
+     * would still be left for {@link #acquire} callers. Background fetches use this so they
+     * never queue in front of listing scrapes.
+     * @return the permit, or null when the host is busy
+     */
+    public Permit tryAcquire(String url) throws InterruptedException {
+        URI uri = URI.create(url);
+        HostState state = stateFor(uri);
+        if (!state.concurrency.tryAcquire()) {
+            return null;
+        }
+
+        try {
+            if (!state.bucket.tryReserve(intervalNanos(robotsFor(uri)), burst, 1)) {
+                state.concurrency.release();
+                return null;
+            }
+        } catch (InterruptedException | RuntimeException e) {
+            state.concurrency.release();
+            throw e;
+        }
+        return new Permit(state);
+    }
+
+    private long intervalNanos(RobotsRules rules) {
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / Math.max(requestsPerSecond, 0.001));
+        Duration crawlDelay = rules.getCrawlDelay();
+        if (crawlDelay == null) {
+            return interval;
+        }
+        // Capped before toNanos, which overflows on a Crawl-delay of a few hundred years
+        Duration maxCrawlDelay = Duration.ofSeconds(Math.max(maxCrawlDelaySeconds, 0));
+        return Math.max(interval, (crawlDelay.compareTo(maxCrawlDelay) > 0 ? maxCrawlDelay : crawlDelay).toNanos());
+    }
+
+    private RobotsRules robotsFor(URI uri) throws InterruptedException {
+        if (!respectRobots) {
+            return RobotsRules.ALLOW_ALL;
+        }
+
+        HostState state = stateFor(uri);
+        RobotsRules rules = state.robots;
+        if (rules != null && state.robotsFetchedAt.plus(Duration.ofHours(robotsTtlHours)).isAfter(Instant.now())) {
+            return rules;
+        }
+
+        // Two threads may refresh at once after expiry; the second result simply wins
+        String robotsUrl = uri.getScheme() + "://" + uri.getRawAuthority() + "/robots.txt";
+        FetchedPage page = pageFetcher.fetch(robotsUrl, null);
+        rules = page != null && page.getHtml() != null
+                ? RobotsRules.parse(page.getHtml(), robotsUserAgent)
+                : RobotsRules.ALLOW_ALL;
+        state.robots = rules;
+        state.robotsFetchedAt = Instant.now();
+        log.debug("Loaded robots.txt for {} (crawl-delay: {})", uri.getHost(), rules.getCrawlDelay());
+        return rules;
+    }
+
+    private HostState stateFor(URI uri) {
+        String host = uri.getHost() == null ? "" : uri.getHost().toLowerCase(Locale.ROOT);
+        return hosts.computeIfAbsent(host, h -> new HostState(maxConcurrencyPerHost));
+    }
+
+    private static class HostState {
+        private final TokenBucket bucket = new TokenBucket();
+        private final Semaphore concurrency;
+        private volatile RobotsRules robots;
+        private volatile Instant robotsFetchedAt = Instant.EPOCH;
+
+        private HostState(int maxConcurrency) {
+            this.concurrency = new Semaphore(Math.max(maxConcurrency, 1));
+        }
+    }
+
+    /**
+     * A held fetch slot on one host
+     */
+    public static class Permit implements AutoCloseable {
+        private final HostState state;
+        private boolean released;
+
+        private Permit(HostState state) {
+            this.state = state;
+        }
+
+        @Override
+        public void close() {
+            if (!released) {
+                released = true;
+                state.concurrency.release();
+            }
+        }
+    }
+}
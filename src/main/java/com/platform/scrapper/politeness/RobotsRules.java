@@ -0,0 +1,154 @@
+package com.platform.scrapper.politeness;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The robots.txt group that applies to the scraper: Allow/Disallow paths and Crawl-delay.
+ * Paths match by prefix with '*' wildcards and a trailing '$' anchor; the longest matching
+ * rule wins and Allow wins ties.
+ */
+class RobotsRules {
+
+    static final RobotsRules ALLOW_ALL = new RobotsRules(List.of(), null);
+
+    private final List<Rule> rules;
+    private final Duration crawlDelay;
+
+    private RobotsRules(List<Rule> rules, Duration crawlDelay) {
+        this.rules = rules;
+        this.crawlDelay = crawlDelay;
+    }
+
+    /**
+     * @return the Crawl-delay for the scraper's group, or null when none is set
+     */
+    Duration getCrawlDelay() {
+        return crawlDelay;
+    }
+
+    boolean isAllowed(String path) {
+        Rule best = null;
+        for (Rule rule : rules) {
+            if (matches(rule.pattern, path)
+                    && (best == null || rule.pattern.length() > best.pattern.length()
+                        || (rule.pattern.length() == best.pattern.length() && rule.allow))) {
+                best = rule;
+            }
+        }
+        return best == null || best.allow;
+    }
+
+    /**
+     * Parse robots.txt, keeping the group for {@code userAgent} or, failing that, the '*' group
+     */
+    static RobotsRules parse(String robotsTxt, String userAgent) {
+        String agent = userAgent.toLowerCase(Locale.ROOT);
+        Group specific = null;
+        Group wildcard = null;
+
+        Group current = null;
+        boolean inAgentLines = false;
+        for (String rawLine : robotsTxt.split("\r?\n")) {
+            int comment = rawLine.indexOf('#');
+            String line = (comment >= 0 ? rawLine.substring(0, comment) : rawLine).trim();
+            int colon = line.indexOf(':');
+            if (colon <= 0) {
+                continue;
+            }
+            String field = line.substring(0, colon).trim().toLowerCase(Locale.ROOT);
+            String value = line.substring(colon + 1).trim();
+
+            if (field.equals("user-agent")) {
+                // Consecutive User-agent lines share one group
+                if (!inAgentLines) {
+                    current = new Group();
+                    inAgentLines = true;
+                }
+                String name = value.toLowerCase(Locale.ROOT);
+                if (name.equals("*")) {
+                    wildcard = wildcard == null ? current : wildcard;
+                } else if (!name.isEmpty() && agent.contains(name)) {
+                    specific = specific == null ? current : specific;
+                }
+                continue;
+            }
+
+            inAgentLines = false;
+            if (current == null) {
+                continue;
+            }
+            switch (field) {
+                case "allow" -> {
+                    if (!value.isEmpty()) {
+                        current.rules.add(new Rule(value, true));
+                    }
+                }
+                case "disallow" -> {
+                    // An empty Disallow allows everything
+                    if (!value.isEmpty()) {
+                        current.rules.add(new Rule(value, false));
+                    }
+                }
+                case "crawl-delay" -> {
+                    // "Infinity", "NaN" and negative delays are ignored; huge ones saturate and are capped by the caller
+                    try {
+                        double seconds = Double.parseDouble(value);
+                        if (Double.isFinite(seconds) && seconds >= 0) {
+                            current.crawlDelay = Duration.ofMillis((long) (seconds * 1000));
+                        }
+                    } catch (NumberFormatException ignored) {
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+
+        Group group = specific != null ? specific : wildcard;
+        return group == null ? ALLOW_ALL : new RobotsRules(List.copyOf(group.rules), group.crawlDelay);
+    }
+
+    private static boolean matches(String pattern, String path) {
+        boolean anchored = pattern.endsWith("$");
+        String body = anchored ? pattern.substring(0, pattern.length() - 1) : pattern;
+        return matchesFrom(body, 0, path, 0, anchored);
+    }
+
+    private static boolean matchesFrom(String pattern, int p, String path, int i, boolean anchored) {
+        while (p < pattern.length()) {
+            char c = pattern.charAt(p);
+            if (c == '*') {
+                for (int k = i; k <= path.length(); k++) {
+                    if (matchesFrom(pattern, p + 1, path, k, anchored)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            if (i >= path.length() || path.charAt(i) != c) {
+                return false;
+            }
+            p++;
+            i++;
+        }
+        return !anchored || i == path.length();
+    }
+
+    private static class Group {
+        private final List<Rule> rules = new ArrayList<>();
+        private Duration crawlDelay;
+    }
+
+    private static class Rule {
+        private final String pattern;
+        private final boolean allow;
+
+        private Rule(String pattern, boolean allow) {
+            this.pattern = pattern;
+            this.allow = allow;
+        }
+    }
+}
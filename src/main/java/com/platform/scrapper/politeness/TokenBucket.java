@@ -0,0 +1,51 @@
+package com.platform.scrapper.politeness;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket in its virtual-scheduling form (GCRA): a single timestamp records
+ * when the bucket will next be full, and each request advances it by one interval with a CAS.
+ */
+class TokenBucket {
+
+    // Theoretical arrival time of the next request, in System.nanoTime() units
+    private final AtomicLong nextArrivalNanos = new AtomicLong(System.nanoTime());
+
+    /**
+     * Reserve one request slot
+     * @param intervalNanos minimum spacing between requests once the burst is spent
+     * @param burst requests allowed back to back after a quiet period
+     * @return how long the caller must wait before sending, in nanoseconds
+     */
+    long reserve(long intervalNanos, int burst) {
+        long tolerance = (long) (Math.max(burst, 1) - 1) * intervalNanos;
+        while (true) {
+            long now = System.nanoTime();
+            long next = nextArrivalNanos.get();
+            long sendAt = Math.max(now, next - tolerance);
+            long newNext = Math.max(next, now) + intervalNanos;
+            if (nextArrivalNanos.compareAndSet(next, newNext)) {
+                return sendAt - now;
+            }
+        }
+    }
+
+    /**
+     * Reserve a slot only if one is free right now, leaving {@code spare} slots of the burst
+     * untouched for {@link #reserve} callers
+     * @return true when a slot was reserved
+     */
+    boolean tryReserve(long intervalNanos, int burst, int spare) {
+        long tolerance = (long) Math.max(burst - 1 - spare, 0) * intervalNanos;
+        while (true) {
+            long now = System.nanoTime();
+            long next = nextArrivalNanos.get();
+            if (now < next - tolerance) {
+                return false;
+            }
+            if (nextArrivalNanos.compareAndSet(next, Math.max(next, now) + intervalNanos)) {
+                return true;
+            }
+        }
+    }
+}
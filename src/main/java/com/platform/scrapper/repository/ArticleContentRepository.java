@@ -0,0 +1,64 @@
+package com.platform.scrapper.repository;
+
+import com.platform.scrapper.domain.ArticleContent;
+import com.platform.scrapper.domain.ArticleContentStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ArticleContentRepository extends JpaRepository<ArticleContent, Long> {
+    
+    Optional<ArticleContent> findByBlogPostId(Long blogPostId);
+    
+    long countByStatus(ArticleContentStatus status);
+    
+    // Queue every post created since :since that has a source link; every node may run this at once
+    @Modifying
+    @Query(value = "INSERT INTO article_content (blog_post_id, url, status, attempts, next_attempt_at, created_at, updated_at) " +
+                   "SELECT bp.id, bp.canonical_link, 'PENDING', 0, :now, :now, :now FROM blog_post bp " +
+                   "WHERE bp.created_at >= :since AND bp.canonical_link IS NOT NULL " +
+                   "ON CONFLICT (blog_post_id) DO NOTHING",
+           nativeQuery = true)
+    int enqueueNewPosts(@Param("since") LocalDateTime since, @Param("now") LocalDateTime now);
+    
+    // Pending rows that are due, and rows whose fetching node went away
+    @Query(value = "SELECT * FROM article_content " +
+                   "WHERE (status = 'PENDING' AND next_attempt_at <= :now) " +
+                   "   OR (status = 'FETCHING' AND lease_expires_at < :now) " +
+                   "ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<ArticleContent> lockDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+    
+    @Modifying
+    @Query(value = "UPDATE article_content SET status = 'FETCHED', content = :content, content_length = :contentLength, " +
+                   "fetched_at = :now, leased_by = NULL, lease_expires_at = NULL, last_error = NULL, updated_at = :now " +
+                   "WHERE id = :id AND leased_by = :node AND status = 'FETCHING'",
+           nativeQuery = true)
+    int markFetched(@Param("id") Long id,
+                    @Param("node") String node,
+                    @Param("content") byte[] content,
+                    @Param("contentLength") int contentLength,
+                    @Param("now") LocalDateTime now);
+    
+    // Hand a row back to the queue, e.g. when its host is busy or after a failed attempt
+    @Modifying
+    @Query(value = "UPDATE article_content SET status = :status, next_attempt_at = :nextAttemptAt, " +
+                   "attempts = attempts - :refund, leased_by = NULL, lease_expires_at = NULL, " +
+                   "last_error = :error, updated_at = :now " +
+                   "WHERE id = :id AND leased_by = :node AND status = 'FETCHING'",
+           nativeQuery = true)
+    int release(@Param("id") Long id,
+                @Param("node") String node,
+                @Param("status") String status,
+                @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                @Param("refund") int refund,
+                @Param("error") String error,
+                @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,50 @@
+package com.platform.scrapper.repository;
+
+import com.platform.scrapper.domain.BlogPost;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Plain JDBC writes for scraped blog posts. IDENTITY ids stop Hibernate from batching
+ * inserts, so bulk inserts go through JdbcTemplate instead.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BlogPostBatchRepository {
+    
+    private static final String INSERT_IGNORING_DUPLICATES =
+            "INSERT INTO blog_post (title, description, attachments, canonical_link, published_at, created_by, website_id, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT DO NOTHING";
+    
+    private static final int BATCH_SIZE = 100;
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    /**
+     * Insert the given posts in JDBC batches; rows clashing with an existing (website_id, title)
+     * or (website_id, canonical_link) are skipped
+     */
+    public void insertIgnoringDuplicates(List<BlogPost> blogPosts) {
+        if (blogPosts.isEmpty()) {
+            return;
+        }
+        
+        jdbcTemplate.batchUpdate(INSERT_IGNORING_DUPLICATES, blogPosts, BATCH_SIZE, (ps, blogPost) -> {
+            ps.setString(1, blogPost.getTitle());
+            ps.setString(2, blogPost.getDescription());
+            ps.setString(3, blogPost.getAttachments());
+            ps.setString(4, blogPost.getCanonicalLink());
+            ps.setTimestamp(5, blogPost.getPublishedAt() != null ? Timestamp.valueOf(blogPost.getPublishedAt()) : null);
+            ps.setLong(6, blogPost.getCreatedBy());
+            ps.setObject(7, blogPost.getWebsiteId(), Types.BIGINT);
+            ps.setTimestamp(8, Timestamp.valueOf(blogPost.getCreatedAt()));
+            ps.setTimestamp(9, Timestamp.valueOf(blogPost.getUpdatedAt()));
+        });
+    }
+}
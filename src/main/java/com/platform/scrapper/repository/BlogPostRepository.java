@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,13 +21,42 @@ public interface BlogPostRepository extends JpaRepository<BlogPost, Long> {
     
     List<BlogPost> findByCreatedByOrderByCreatedAtDesc(Long createdBy);
     
-    @Query("SELECT bp FROM BlogPost bp WHERE bp.title LIKE %:searchTerm% OR bp.description LIKE %:searchTerm% ORDER BY bp.createdAt DESC")
-    List<BlogPost> searchBlogPosts(@Param("searchTerm") String searchTerm);
+    // Full-text match on title and description through the GIN index on search_vector. Only the newest
+    // :candidates matches are ranked, so a common term costs the same however large the table gets.
+    @Query(value = "SELECT bp.* FROM (SELECT * FROM blog_post " +
+                   "WHERE search_vector @@ websearch_to_tsquery('english', :term) " +
+                   "ORDER BY id DESC LIMIT :candidates) bp " +
+                   "ORDER BY ts_rank_cd(bp.search_vector, websearch_to_tsquery('english', :term)) DESC NULLS LAST, " +
+                   "bp.created_at DESC, bp.id DESC LIMIT :limit OFFSET :offset",
+           nativeQuery = true)
+    List<BlogPost> searchBlogPosts(@Param("term") String term,
+                                   @Param("candidates") int candidates,
+                                   @Param("limit") int limit,
+                                   @Param("offset") int offset);
     
     // Check if blog post exists by title and creator (for duplicate prevention)
     boolean existsByTitleAndCreatedBy(String title, Long createdBy);
     
+    // Set-based duplicate checks for a whole scraped listing. Rows scraped before website_id existed
+    // are matched on created_by, which held the website id for scraped posts.
+    @Query("SELECT bp.title FROM BlogPost bp WHERE (bp.websiteId = :websiteId OR (bp.websiteId IS NULL AND bp.createdBy = :websiteId)) " +
+           "AND bp.title IN :titles")
+    List<String> findExistingTitles(@Param("websiteId") Long websiteId, @Param("titles") Collection<String> titles);
+    
+    @Query("SELECT bp.canonicalLink FROM BlogPost bp WHERE bp.websiteId = :websiteId AND bp.canonicalLink IN :canonicalLinks")
+    List<String> findExistingCanonicalLinks(@Param("websiteId") Long websiteId, @Param("canonicalLinks") Collection<String> canonicalLinks);
+    
+    // Dedupe keys of every post scraped from one website, for warming KnownPostFilter
+    @Query("SELECT bp.title AS title, bp.canonicalLink AS canonicalLink FROM BlogPost bp " +
+           "WHERE bp.websiteId = :websiteId OR (bp.websiteId IS NULL AND bp.createdBy = :websiteId)")
+    List<PostKey> findPostKeys(@Param("websiteId") Long websiteId);
+    
     // Find by title and creator
     Optional<BlogPost> findByTitleAndCreatedBy(String title, Long createdBy);
+    
+    interface PostKey {
+        String getTitle();
+        String getCanonicalLink();
+    }
 }
 
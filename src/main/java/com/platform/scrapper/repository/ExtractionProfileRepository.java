@@ -0,0 +1,23 @@
+package com.platform.scrapper.repository;
+
+import com.platform.scrapper.domain.ExtractionProfile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ExtractionProfileRepository extends JpaRepository<ExtractionProfile, Long> {
+    
+    Optional<ExtractionProfile> findByWebsiteId(Long websiteId);
+    
+    // Profiles changed since the registry last loaded
+    List<ExtractionProfile> findByUpdatedAtAfter(LocalDateTime updatedAt);
+    
+    // Every website that still has a profile, so the registry can drop deleted ones
+    @Query("SELECT p.websiteId FROM ExtractionProfile p")
+    List<Long> findAllWebsiteIds();
+}
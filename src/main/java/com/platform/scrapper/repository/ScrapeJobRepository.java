@@ -0,0 +1,113 @@
+package com.platform.scrapper.repository;
+
+import com.platform.scrapper.domain.ScrapeJob;
+import com.platform.scrapper.domain.ScrapeJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ScrapeJobRepository extends JpaRepository<ScrapeJob, Long> {
+    
+    long countByStatus(ScrapeJobStatus status);
+    
+    // Open a job for every due active website without one; every node may run this at once
+    @Modifying
+    @Query(value = "INSERT INTO scrape_job (website_id, status, due_at, max_attempts, created_at, updated_at) " +
+                   "SELECT w.id, 'PENDING', :now, :maxAttempts, :now, :now FROM website w " +
+                   "WHERE w.is_active = TRUE AND (w.next_scrape_at IS NULL OR w.next_scrape_at <= :now) " +
+                   "ON CONFLICT (website_id) WHERE status IN ('PENDING', 'RUNNING') DO NOTHING",
+           nativeQuery = true)
+    int enqueueDueWebsites(@Param("now") LocalDateTime now, @Param("maxAttempts") int maxAttempts);
+    
+    @Modifying
+    @Query(value = "INSERT INTO scrape_job (website_id, status, due_at, max_attempts, created_at, updated_at) " +
+                   "SELECT w.id, 'PENDING', :now, :maxAttempts, :now, :now FROM website w WHERE w.is_active = TRUE " +
+                   "ON CONFLICT (website_id) WHERE status IN ('PENDING', 'RUNNING') DO NOTHING",
+           nativeQuery = true)
+    int enqueueActiveWebsites(@Param("now") LocalDateTime now, @Param("maxAttempts") int maxAttempts);
+    
+    // Rows locked by another node's claim are skipped rather than waited on
+    @Query(value = "SELECT * FROM scrape_job WHERE status = 'PENDING' AND due_at <= :now " +
+                   "ORDER BY due_at LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<ScrapeJob> lockDueJobs(@Param("now") LocalDateTime now, @Param("limit") int limit);
+    
+    // Same, leaving the jobs of websites this node is still scraping for later
+    @Query(value = "SELECT * FROM scrape_job WHERE status = 'PENDING' AND due_at <= :now " +
+                   "AND website_id NOT IN (:websiteIds) " +
+                   "ORDER BY due_at LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<ScrapeJob> lockDueJobsExcept(@Param("now") LocalDateTime now,
+                                      @Param("limit") int limit,
+                                      @Param("websiteIds") Collection<Long> websiteIds);
+    
+    // Jobs whose node stopped heartbeating go back to the queue, or fail once out of attempts
+    @Modifying
+    @Query(value = "UPDATE scrape_job SET " +
+                   "status = CASE WHEN attempts >= max_attempts THEN 'FAILED' ELSE 'PENDING' END, " +
+                   "finished_at = CASE WHEN attempts >= max_attempts THEN :now ELSE NULL END, " +
+                   "due_at = :now, leased_by = NULL, lease_expires_at = NULL, " +
+                   "last_error = 'Lease expired on ' || leased_by, updated_at = :now " +
+                   "WHERE status = 'RUNNING' AND lease_expires_at < :now",
+           nativeQuery = true)
+    int recoverExpiredLeases(@Param("now") LocalDateTime now);
+    
+    @Modifying
+    @Query(value = "UPDATE scrape_job SET heartbeat_at = :now, lease_expires_at = :leaseExpiresAt, updated_at = :now " +
+                   "WHERE id IN (:ids) AND leased_by = :node AND status = 'RUNNING'",
+           nativeQuery = true)
+    int heartbeat(@Param("ids") Collection<Long> ids,
+                  @Param("node") String node,
+                  @Param("now") LocalDateTime now,
+                  @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt);
+    
+    @Modifying
+    @Query(value = "UPDATE scrape_job SET status = 'SUCCEEDED', finished_at = :now, duration_ms = :durationMs, " +
+                   "posts_found = :postsFound, new_posts = :newPosts, unchanged = :unchanged, " +
+                   "leased_by = NULL, lease_expires_at = NULL, updated_at = :now " +
+                   "WHERE id = :id AND leased_by = :node AND status = 'RUNNING'",
+           nativeQuery = true)
+    int complete(@Param("id") Long id,
+                 @Param("node") String node,
+                 @Param("now") LocalDateTime now,
+                 @Param("durationMs") long durationMs,
+                 @Param("postsFound") int postsFound,
+                 @Param("newPosts") int newPosts,
+                 @Param("unchanged") boolean unchanged);
+    
+    // Retry later while attempts remain, otherwise fail for good
+    @Modifying
+    @Query(value = "UPDATE scrape_job SET " +
+                   "status = CASE WHEN attempts >= max_attempts THEN 'FAILED' ELSE 'PENDING' END, " +
+                   "finished_at = CASE WHEN attempts >= max_attempts THEN :now ELSE NULL END, " +
+                   "due_at = :retryAt, duration_ms = :durationMs, last_error = :error, " +
+                   "leased_by = NULL, lease_expires_at = NULL, updated_at = :now " +
+                   "WHERE id = :id AND leased_by = :node AND status = 'RUNNING'",
+           nativeQuery = true)
+    int fail(@Param("id") Long id,
+             @Param("node") String node,
+             @Param("now") LocalDateTime now,
+             @Param("retryAt") LocalDateTime retryAt,
+             @Param("durationMs") long durationMs,
+             @Param("error") String error);
+    
+    // Hand a claimed job back untouched; the attempt it was charged is returned too
+    @Modifying
+    @Query(value = "UPDATE scrape_job SET status = 'PENDING', attempts = attempts - 1, started_at = NULL, " +
+                   "heartbeat_at = NULL, leased_by = NULL, lease_expires_at = NULL, updated_at = :now " +
+                   "WHERE id = :id AND leased_by = :node AND status = 'RUNNING'",
+           nativeQuery = true)
+    int release(@Param("id") Long id, @Param("node") String node, @Param("now") LocalDateTime now);
+    
+    @Modifying
+    @Query(value = "DELETE FROM scrape_job WHERE status IN ('SUCCEEDED', 'FAILED') AND finished_at < :cutoff",
+           nativeQuery = true)
+    int deleteFinishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -2,8 +2,12 @@ package com.platform.scrapper.repository;
 
 import com.platform.scrapper.domain.Website;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -16,5 +20,30 @@ public interface WebsiteRepository extends JpaRepository<Website, Long> {
     boolean existsByUrl(String url);
     
     Website findByUrl(String url);
+    
+    @Modifying
+    @Query("UPDATE Website w SET w.lastScrapedAt = :scrapedAt, w.updatedAt = :scrapedAt, " +
+           "w.changeRate = :changeRate, w.nextScrapeAt = :nextScrapeAt, w.consecutiveFailures = 0 WHERE w.id = :id")
+    void markScraped(@Param("id") Long id,
+                     @Param("scrapedAt") LocalDateTime scrapedAt,
+                     @Param("changeRate") double changeRate,
+                     @Param("nextScrapeAt") LocalDateTime nextScrapeAt);
+    
+    @Modifying
+    @Query("UPDATE Website w SET w.lastScrapedAt = :scrapedAt, w.lastChangedAt = :scrapedAt, w.updatedAt = :scrapedAt, " +
+           "w.etag = :etag, w.lastModified = :lastModified, w.contentHash = :contentHash, " +
+           "w.changeRate = :changeRate, w.nextScrapeAt = :nextScrapeAt, w.consecutiveFailures = 0 WHERE w.id = :id")
+    void markChanged(@Param("id") Long id,
+                     @Param("scrapedAt") LocalDateTime scrapedAt,
+                     @Param("etag") String etag,
+                     @Param("lastModified") String lastModified,
+                     @Param("contentHash") String contentHash,
+                     @Param("changeRate") double changeRate,
+                     @Param("nextScrapeAt") LocalDateTime nextScrapeAt);
+    
+    @Modifying
+    @Query("UPDATE Website w SET w.nextScrapeAt = :nextScrapeAt, w.consecutiveFailures = w.consecutiveFailures + 1 " +
+           "WHERE w.id = :id")
+    void postponeScrape(@Param("id") Long id, @Param("nextScrapeAt") LocalDateTime nextScrapeAt);
 }
 
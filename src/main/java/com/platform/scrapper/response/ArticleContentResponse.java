@@ -0,0 +1,22 @@
+package com.platform.scrapper.response;
+
+import com.platform.scrapper.domain.ArticleContentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArticleContentResponse {
+    
+    private Long blogPostId;
+    private String url;
+    private ArticleContentStatus status;
+    private String content; // Null until fetched
+    private LocalDateTime fetchedAt;
+}
@@ -18,6 +18,8 @@ public class BlogPostResponse {
     private String title;
     private String description;
     private List<String> attachments;
+    private String canonicalLink;
+    private LocalDateTime publishedAt;
     private Long createdBy;
     private String createdByUsername;
     private LocalDateTime createdAt;
@@ -19,8 +19,11 @@ public class WebsiteResponse {
     private String description;
     private boolean isActive;
     private boolean isScraped;
-    private String lastScrapedAt;
+    private LocalDateTime lastScrapedAt;
+    private LocalDateTime lastChangedAt;
     private Integer totalPostsScraped;
+    private Double changeRate;
+    private LocalDateTime nextScrapeAt;
     private LocalDateTime createdAt;
 }
 
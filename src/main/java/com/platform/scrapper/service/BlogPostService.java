@@ -1,6 +1,7 @@
 package com.platform.scrapper.service;
 
 import com.platform.scrapper.request.CreateBlogPostRequest;
+import com.platform.scrapper.response.ArticleContentResponse;
 import com.platform.scrapper.response.BlogPostResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -15,7 +16,9 @@ public interface BlogPostService {
     
     BlogPostResponse getBlogPostById(Long id);
     
-    List<BlogPostResponse> searchBlogPosts(String searchTerm);
+    ArticleContentResponse getBlogPostContent(Long id);
+    
+    List<BlogPostResponse> searchBlogPosts(String searchTerm, int page, int size);
     
     BlogPostResponse createBlogPost(Long userId, CreateBlogPostRequest request);
     
@@ -3,14 +3,23 @@ package com.platform.scrapper.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.common.search.SearchPage;
+import com.platform.event.EventTypes;
+import com.platform.event.service.EventPublisher;
+import com.platform.scrapper.content.GzipCodec;
+import com.platform.scrapper.domain.ArticleContent;
 import com.platform.scrapper.domain.BlogPost;
+import com.platform.scrapper.event.BlogPostCreatedEvent;
+import com.platform.scrapper.repository.ArticleContentRepository;
 import com.platform.scrapper.repository.BlogPostRepository;
 import com.platform.scrapper.request.CreateBlogPostRequest;
+import com.platform.scrapper.response.ArticleContentResponse;
 import com.platform.scrapper.response.BlogPostResponse;
 import com.platform.user.domain.SystemUser;
 import com.platform.user.repository.SystemUserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -26,8 +35,13 @@ import java.util.List;
 public class BlogPostServiceImpl implements BlogPostService {
     
     private final BlogPostRepository blogPostRepository;
+    private final ArticleContentRepository articleContentRepository;
     private final SystemUserRepository systemUserRepository;
     private final ObjectMapper objectMapper;
+    private final EventPublisher eventPublisher;
+    
+    @Value("${search.max-candidates:1000}")
+    private int searchMaxCandidates = 1000;
     
     @Override
     public List<BlogPostResponse> getAllBlogPosts() {
@@ -51,8 +65,27 @@ public class BlogPostServiceImpl implements BlogPostService {
     }
     
     @Override
-    public List<BlogPostResponse> searchBlogPosts(String searchTerm) {
-        return blogPostRepository.searchBlogPosts(searchTerm)
+    public ArticleContentResponse getBlogPostContent(Long id) {
+        ArticleContent articleContent = articleContentRepository.findByBlogPostId(id)
+                .orElseThrow(() -> new RuntimeException("No article content for blog post with id: " + id));
+        return ArticleContentResponse.builder()
+                .blogPostId(articleContent.getBlogPostId())
+                .url(articleContent.getUrl())
+                .status(articleContent.getStatus())
+                .content(articleContent.getContent() != null ? GzipCodec.decompress(articleContent.getContent()) : null)
+                .fetchedAt(articleContent.getFetchedAt())
+                .build();
+    }
+    
+    @Override
+    public List<BlogPostResponse> searchBlogPosts(String searchTerm, int page, int size) {
+        SearchPage searchPage = SearchPage.of(searchTerm, page, size, searchMaxCandidates).orElse(null);
+        if (searchPage == null) {
+            return List.of();
+        }
+        
+        return blogPostRepository.searchBlogPosts(searchPage.getTerm(), searchMaxCandidates, searchPage.getLimit(),
+                        searchPage.getOffset())
                 .stream()
                 .map(this::mapToBlogPostResponse)
                 .toList();
@@ -82,6 +115,10 @@ public class BlogPostServiceImpl implements BlogPostService {
                 .build();
         
         BlogPost savedBlogPost = blogPostRepository.save(blogPost);
+        eventPublisher.publish(EventTypes.BLOG_POST_CREATED, savedBlogPost.getId(), BlogPostCreatedEvent.builder()
+                .blogPostId(savedBlogPost.getId())
+                .createdBy(userId)
+                .build());
         return mapToBlogPostResponse(savedBlogPost);
     }
     
@@ -112,6 +149,8 @@ public class BlogPostServiceImpl implements BlogPostService {
                 .title(blogPost.getTitle())
                 .description(blogPost.getDescription())
                 .attachments(attachments)
+                .canonicalLink(blogPost.getCanonicalLink())
+                .publishedAt(blogPost.getPublishedAt())
                 .createdBy(blogPost.getCreatedBy())
                 .createdByUsername(createdByUsername)
                 .createdAt(blogPost.getCreatedAt())
@@ -0,0 +1,89 @@
+package com.platform.scrapper.service;
+
+import com.platform.scrapper.domain.Website;
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Decides when each website is scraped next. New posts per hour are tracked as an
+ * exponentially decayed average, and the next scrape is timed so that roughly
+ * {@code target-posts-per-scrape} new posts have appeared, within the min/max bounds.
+ * Websites with no measured rate yet are rescraped every {@code new-site-interval-minutes}.
+ */
+@Component
+public class ScrapeFrequencyPolicy {
+
+    @Value("${blog.scraper.frequency.min-interval-minutes:5}")
+    private long minIntervalMinutes = 5;
+
+    @Value("${blog.scraper.frequency.max-interval-minutes:1440}")
+    private long maxIntervalMinutes = 1440;
+
+    @Value("${blog.scraper.frequency.new-site-interval-minutes:60}")
+    private long newSiteIntervalMinutes = 60;
+
+    @Value("${blog.scraper.frequency.half-life-hours:24}")
+    private double halfLifeHours = 24;
+
+    @Value("${blog.scraper.frequency.target-posts-per-scrape:1.0}")
+    private double targetPostsPerScrape = 1.0;
+
+    @Data
+    @Builder
+    public static class ScrapeSchedule {
+        private double changeRate; // New posts per hour
+        private LocalDateTime nextScrapeAt;
+    }
+
+    /**
+     * Schedule after a scrape of {@code website} that found {@code newPosts} new posts
+     */
+    public ScrapeSchedule afterScrape(Website website, int newPosts, LocalDateTime scrapedAt) {
+        double previousRate = website.getChangeRate() != null ? website.getChangeRate() : 0.0;
+        LocalDateTime lastScrapedAt = website.getLastScrapedAt();
+
+        double changeRate;
+        if (lastScrapedAt == null) {
+            // The first scrape picks up the whole backlog, which says nothing about the rate
+            changeRate = previousRate;
+        } else {
+            double elapsedHours = Math.max(Duration.between(lastScrapedAt, scrapedAt).toMillis() / 3_600_000.0, 1.0 / 60);
+            double observedRate = newPosts / elapsedHours;
+            // Weight the new observation by how much time it covers
+            double weight = 1 - Math.pow(0.5, elapsedHours / halfLifeHours);
+            changeRate = weight * observedRate + (1 - weight) * previousRate;
+        }
+
+        return ScrapeSchedule.builder()
+                .changeRate(changeRate)
+                .nextScrapeAt(scrapedAt.plus(intervalFor(changeRate)))
+                .build();
+    }
+
+    /**
+     * Next attempt after a failed scrape; the change rate is left alone. Each failure in a row
+     * doubles the wait from min-interval, up to max-interval.
+     * @param website the website as it was before this failure
+     */
+    public LocalDateTime afterFailure(Website website, LocalDateTime failedAt) {
+        int earlierFailures = Math.min(Math.max(website.getConsecutiveFailures(), 0), 30);
+        long minutes = Math.min(minIntervalMinutes << earlierFailures, maxIntervalMinutes);
+        return failedAt.plusMinutes(Math.max(minutes, minIntervalMinutes));
+    }
+
+    private Duration intervalFor(double changeRate) {
+        long maxMillis = Duration.ofMinutes(maxIntervalMinutes).toMillis();
+        long minMillis = Duration.ofMinutes(minIntervalMinutes).toMillis();
+        if (changeRate <= 0) {
+            // Nothing measured yet, e.g. after the first scrape; a zero rate does not mean the site is dead
+            return Duration.ofMinutes(Math.min(Math.max(newSiteIntervalMinutes, minIntervalMinutes), maxIntervalMinutes));
+        }
+        long millis = (long) (targetPostsPerScrape / changeRate * 3_600_000);
+        return Duration.ofMillis(Math.min(Math.max(millis, minMillis), maxMillis));
+    }
+}
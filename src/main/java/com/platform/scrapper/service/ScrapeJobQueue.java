@@ -0,0 +1,169 @@
+package com.platform.scrapper.service;
+
+import com.platform.scrapper.domain.ScrapeJob;
+import com.platform.scrapper.domain.ScrapeJobStatus;
+import com.platform.scrapper.repository.ScrapeJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Scrape jobs shared by every app instance through the scrape_job table. Instances claim
+ * jobs with FOR UPDATE SKIP LOCKED and hold them under a lease they keep extending while
+ * the scrape runs; a job whose lease runs out is handed to another instance.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ScrapeJobQueue {
+
+    private final ScrapeJobRepository scrapeJobRepository;
+
+    @Value("${blog.scraper.jobs.node-id:}")
+    private String configuredNodeId = "";
+
+    @Value("${blog.scraper.jobs.lease-seconds:180}")
+    private long leaseSeconds = 180;
+
+    @Value("${blog.scraper.jobs.max-attempts:3}")
+    private int maxAttempts = 3;
+
+    @Value("${blog.scraper.jobs.retry-backoff-seconds:60}")
+    private long retryBackoffSeconds = 60;
+
+    @Value("${blog.scraper.jobs.retention-days:7}")
+    private long retentionDays = 7;
+
+    private volatile String nodeId;
+
+    // Jobs this instance is running and must keep heartbeating
+    private final Set<Long> heldJobIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Id written to leased jobs; defaults to pid@hostname
+     */
+    public String getNodeId() {
+        if (nodeId == null) {
+            nodeId = configuredNodeId == null || configuredNodeId.isBlank()
+                    ? ManagementFactory.getRuntimeMXBean().getName()
+                    : configuredNodeId;
+        }
+        return nodeId;
+    }
+
+    @Transactional
+    public int enqueueDueWebsites() {
+        return scrapeJobRepository.enqueueDueWebsites(LocalDateTime.now(), maxAttempts);
+    }
+
+    @Transactional
+    public int enqueueActiveWebsites() {
+        return scrapeJobRepository.enqueueActiveWebsites(LocalDateTime.now(), maxAttempts);
+    }
+
+    @Transactional
+    public int recoverExpiredLeases() {
+        return scrapeJobRepository.recoverExpiredLeases(LocalDateTime.now());
+    }
+
+    /**
+     * Lease up to {@code limit} due jobs to this instance
+     * @param busyWebsiteIds websites this instance is still scraping; their jobs stay pending
+     */
+    @Transactional
+    public List<ScrapeJob> claim(int limit, Set<Long> busyWebsiteIds) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ScrapeJob> jobs = busyWebsiteIds.isEmpty()
+                ? scrapeJobRepository.lockDueJobs(now, limit)
+                : scrapeJobRepository.lockDueJobsExcept(now, limit, Set.copyOf(busyWebsiteIds));
+        for (ScrapeJob job : jobs) {
+            job.setStatus(ScrapeJobStatus.RUNNING);
+            job.setAttempts(job.getAttempts() + 1);
+            job.setLeasedBy(getNodeId());
+            job.setLeaseExpiresAt(now.plusSeconds(leaseSeconds));
+            job.setHeartbeatAt(now);
+            job.setStartedAt(now);
+            heldJobIds.add(job.getId());
+        }
+        return jobs;
+    }
+
+    @Transactional
+    public void complete(ScrapeJob job, int postsFound, int newPosts, boolean unchanged) {
+        heldJobIds.remove(job.getId());
+        LocalDateTime now = LocalDateTime.now();
+        int updated = scrapeJobRepository.complete(job.getId(), getNodeId(), now, elapsedMillis(job, now),
+                postsFound, newPosts, unchanged);
+        if (updated == 0) {
+            log.warn("Scrape job {} finished after its lease was lost", job.getId());
+        }
+    }
+
+    /**
+     * Record a failed attempt; the job is retried after a backoff while attempts remain
+     * @return true when the job has failed for good
+     */
+    @Transactional
+    public boolean fail(ScrapeJob job, String error) {
+        heldJobIds.remove(job.getId());
+        LocalDateTime now = LocalDateTime.now();
+        // Exponential backoff: 1x, 2x, 4x ... the base delay
+        long backoff = retryBackoffSeconds << Math.min(Math.max(job.getAttempts() - 1, 0), 10);
+        int updated = scrapeJobRepository.fail(job.getId(), getNodeId(), now, now.plusSeconds(backoff),
+                elapsedMillis(job, now), error);
+        return updated > 0 && job.getAttempts() >= job.getMaxAttempts();
+    }
+
+    /**
+     * Return a claimed job that was never started to the queue without charging an attempt
+     */
+    @Transactional
+    public void release(ScrapeJob job) {
+        heldJobIds.remove(job.getId());
+        scrapeJobRepository.release(job.getId(), getNodeId(), LocalDateTime.now());
+    }
+
+    /**
+     * Extend the leases of jobs this instance is still running
+     */
+    @Scheduled(fixedDelayString = "${blog.scraper.jobs.heartbeat-interval-ms:30000}")
+    @Transactional
+    public void heartbeat() {
+        if (heldJobIds.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        scrapeJobRepository.heartbeat(Set.copyOf(heldJobIds), getNodeId(), now, now.plusSeconds(leaseSeconds));
+    }
+
+    @Scheduled(cron = "${blog.scraper.jobs.purge-cron:0 0 * * * *}")
+    @Transactional
+    public void purgeFinishedJobs() {
+        int deleted = scrapeJobRepository.deleteFinishedBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (deleted > 0) {
+            log.info("Purged {} finished scrape jobs", deleted);
+        }
+    }
+
+    public long countByStatus(ScrapeJobStatus status) {
+        return scrapeJobRepository.countByStatus(status);
+    }
+
+    private static long elapsedMillis(ScrapeJob job, LocalDateTime now) {
+        return job.getStartedAt() != null ? Duration.between(job.getStartedAt(), now).toMillis() : 0;
+    }
+}
@@ -1,21 +1,45 @@
 package com.platform.scrapper.service;
 
+import com.platform.event.EventTypes;
+import com.platform.event.service.EventPublisher;
 import com.platform.scrapper.BlogScraper;
+import com.platform.scrapper.dedupe.KnownPostFilter;
 import com.platform.scrapper.domain.BlogPost;
+import com.platform.scrapper.domain.ScrapeJob;
+import com.platform.scrapper.domain.ScrapeJobStatus;
 import com.platform.scrapper.domain.Website;
+import com.platform.scrapper.event.BlogPostsScrapedEvent;
+import com.platform.scrapper.extract.ExtractionProfileRegistry;
+import com.platform.scrapper.fetch.PageValidators;
+import com.platform.scrapper.repository.BlogPostBatchRepository;
 import com.platform.scrapper.repository.BlogPostRepository;
 import com.platform.scrapper.repository.WebsiteRepository;
 import com.platform.user.domain.SystemUser;
 import com.platform.user.repository.SystemUserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -24,96 +48,188 @@ public class ScrapingSchedulerService {
     
     private final WebsiteRepository websiteRepository;
     private final BlogPostRepository blogPostRepository;
+    private final BlogPostBatchRepository blogPostBatchRepository;
     private final SystemUserRepository systemUserRepository;
+    private final BlogScraper blogScraper;
+    private final ExtractionProfileRegistry profileRegistry;
+    private final KnownPostFilter knownPostFilter;
+    private final ScrapeFrequencyPolicy frequencyPolicy;
+    private final ScrapeJobQueue scrapeJobQueue;
+    private final EventPublisher eventPublisher;
+    private final ThreadPoolTaskExecutor scrapeExecutor;
+    private final TransactionTemplate transactionTemplate;
     
     private static final Long SYSTEM_USER_ID = 1L; // Default system user ID
     
+    // Websites whose scrape is still running, e.g. after outliving the per-site timeout
+    private final Set<Long> inFlightWebsiteIds = ConcurrentHashMap.newKeySet();
+    
+    @Value("${blog.scraper.scheduler.site-timeout-seconds:120}")
+    private long siteTimeoutSeconds;
+    
+    @Value("${blog.scraper.stream.enabled:true}")
+    private boolean streamEnabled = true;
+    
+    @Value("${blog.scraper.stream.max-new-posts:100}")
+    private int streamMaxNewPosts = 100;
+    
+    @Value("${blog.scraper.stream.known-run:3}")
+    private int streamKnownRun = 3;
+    
     /**
-     * Scheduled task that runs every minute to scrape all active websites
-     * Cron expression: "0 * * * * *" = every minute
+     * Outcome of one website scrape, recorded on its job
      */
-    @Scheduled(cron = "0 * * * * *")
-    @Transactional
+    @lombok.Data
+    @lombok.Builder
+    private static class ScrapeOutcome {
+        private int postsFound;
+        private int newPosts;
+        private boolean unchanged;
+    }
+    
+    /**
+     * Scheduled task that queues the active websites that are due and runs as many queued jobs
+     * as this instance has free workers. Jobs live in the scrape_job table, so every instance
+     * can run this and each job is still scraped once.
+     * Each website's next due time comes from ScrapeFrequencyPolicy, so quiet sites are checked rarely.
+     * Cron expression defaults to "0 * * * * *" = every minute; "-" disables it
+     */
+    @Scheduled(cron = "${blog.scraper.scheduler.cron:0 * * * * *}")
     public void scrapeAllWebsitesScheduled() {
-        log.info("Starting scheduled scraping of all active websites...");
-        
+        runCycle(true);
+    }
+    
+    private void runCycle(boolean dueOnly) {
         try {
-            // Get all active websites
-            List<Website> activeWebsites = websiteRepository.findByIsActiveTrue();
+            int enqueued = dueOnly ? scrapeJobQueue.enqueueDueWebsites() : scrapeJobQueue.enqueueActiveWebsites();
+            int recovered = scrapeJobQueue.recoverExpiredLeases();
+            if (recovered > 0) {
+                log.warn("Recovered {} scrape jobs with expired leases", recovered);
+            }
             
-            if (activeWebsites.isEmpty()) {
-                log.info("No active websites found for scraping");
+            // Jobs of websites still in flight here stay pending rather than failing as duplicates
+            int freeWorkers = scrapeExecutor.getMaxPoolSize() - inFlightWebsiteIds.size();
+            List<ScrapeJob> jobs = scrapeJobQueue.claim(freeWorkers, inFlightWebsiteIds);
+            if (jobs.isEmpty()) {
+                log.debug("No scrape jobs claimed ({} enqueued)", enqueued);
                 return;
             }
             
-            log.info("Found {} active websites to scrape", activeWebsites.size());
+            log.info("Claimed {} scrape jobs ({} enqueued this cycle)", jobs.size(), enqueued);
             
-            // Scrape each website
-            for (Website website : activeWebsites) {
-                try {
-                    scrapeWebsiteWithDuplicatePrevention(website);
-                } catch (Exception e) {
-                    log.error("Error scraping website {}: {}", website.getUrl(), e.getMessage());
-                    // Continue with next website even if one fails
+            Map<Long, Website> websites = websiteRepository
+                    .findAllById(jobs.stream().map(ScrapeJob::getWebsiteId).toList())
+                    .stream()
+                    .collect(Collectors.toMap(Website::getId, Function.identity()));
+            
+            // Scrape websites concurrently; one failing or slow site does not hold up the others
+            for (ScrapeJob job : jobs) {
+                Website website = websites.get(job.getWebsiteId());
+                if (website == null || !website.isActive()) {
+                    scrapeJobQueue.fail(job, "Website inactive or deleted");
+                    continue;
                 }
+                if (!inFlightWebsiteIds.add(website.getId())) {
+                    // A manual and a scheduled cycle raced for the same website
+                    scrapeJobQueue.release(job);
+                    continue;
+                }
+                runJobAsync(job, website);
             }
             
-            log.info("Scheduled scraping completed successfully");
-            
         } catch (Exception e) {
             log.error("Error in scheduled scraping: {}", e.getMessage(), e);
         }
     }
     
+    private void runJobAsync(ScrapeJob job, Website website) {
+        CompletableFuture<ScrapeOutcome> outcomeFuture = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = scrapeExecutor.submit(() -> {
+                try {
+                    outcomeFuture.complete(scrapeWebsiteWithDuplicatePrevention(website));
+                } catch (Throwable e) {
+                    outcomeFuture.completeExceptionally(e);
+                } finally {
+                    inFlightWebsiteIds.remove(website.getId());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlightWebsiteIds.remove(website.getId());
+            scrapeJobQueue.release(job);
+            return;
+        }
+        
+        outcomeFuture
+                .orTimeout(siteTimeoutSeconds, TimeUnit.SECONDS)
+                .whenComplete((outcome, e) -> {
+                    if (e instanceof TimeoutException) {
+                        // Interrupt the fetch or politeness wait; the website stays in flight until the task exits
+                        task.cancel(true);
+                    }
+                    try {
+                        if (e == null) {
+                            scrapeJobQueue.complete(job, outcome.getPostsFound(), outcome.getNewPosts(), outcome.isUnchanged());
+                            return;
+                        }
+                        log.error("Error scraping website {}: {}", website.getUrl(), e.getMessage());
+                        if (scrapeJobQueue.fail(job, e instanceof TimeoutException
+                                ? "Timed out after " + siteTimeoutSeconds + "s" : String.valueOf(e.getMessage()))) {
+                            postponeAfterFailure(website);
+                        }
+                    } catch (Exception recordError) {
+                        log.error("Could not record scrape job {}: {}", job.getId(), recordError.getMessage());
+                    }
+                });
+    }
+    
     /**
-     * Scrape a website and save new blog posts, avoiding duplicates
+     * Scrape a website and save new blog posts, avoiding duplicates.
+     * The page fetch runs outside any transaction; only persistence gets a short one.
+     * Pages unchanged since the last scrape skip extraction and persistence.
      */
-    private void scrapeWebsiteWithDuplicatePrevention(Website website) {
+    private ScrapeOutcome scrapeWebsiteWithDuplicatePrevention(Website website) {
         log.info("Scraping website: {}", website.getUrl());
         
         try {
-            // Use the existing BlogScraper to get blog posts
-            List<BlogScraper.BlogPost> scrapedPosts = BlogScraper.scrapeBlogsFromWebsite(website.getUrl());
+            PageValidators previous = PageValidators.builder()
+                    .etag(website.getEtag())
+                    .lastModified(website.getLastModified())
+                    .contentHash(website.getContentHash())
+                    .build();
+            BlogScraper.ScrapeResult result = blogScraper.scrape(website.getUrl(), previous,
+                    profileRegistry.profileFor(website), streamLimit(website));
+            LocalDateTime scrapedAt = LocalDateTime.now();
             
-            if (scrapedPosts.isEmpty()) {
-                log.info("No blog posts found for website: {}", website.getUrl());
-                return;
+            if (result.isUnchanged() || result.getBlogPosts().isEmpty()) {
+                log.info(result.isUnchanged() ? "Website {} unchanged since last scrape" : "No blog posts found for website: {}",
+                        website.getUrl());
+                ScrapeFrequencyPolicy.ScrapeSchedule schedule = frequencyPolicy.afterScrape(website, 0, scrapedAt);
+                transactionTemplate.executeWithoutResult(status -> websiteRepository.markScraped(
+                        website.getId(), scrapedAt, schedule.getChangeRate(), schedule.getNextScrapeAt()));
+                return ScrapeOutcome.builder().unchanged(result.isUnchanged()).build();
             }
             
-            log.info("Found {} blog posts from website: {}", scrapedPosts.size(), website.getUrl());
-            
-            int newPostsCount = 0;
-            int duplicatePostsCount = 0;
-            
-            for (BlogScraper.BlogPost scrapedPost : scrapedPosts) {
-                // Check if blog post already exists by title and website (createdBy)
-                if (!blogPostRepository.existsByTitleAndCreatedBy(scrapedPost.getBlogTitle(), website.getId())) {
-                    
-                    // Create new blog post
-                    BlogPost blogPost = BlogPost.builder()
-                            .title(scrapedPost.getBlogTitle())
-                            .description(scrapedPost.getExcerpt())
-                            .createdBy(website.getId()) // Use website ID as createdBy for system scraped posts
-                            .createdAt(LocalDateTime.now())
-                            .updatedAt(LocalDateTime.now())
-                            .build();
-                    
-                    blogPostRepository.save(blogPost);
-                    newPostsCount++;
-                    
-                    log.debug("Saved new blog post: {}", scrapedPost.getBlogTitle());
-                } else {
-                    duplicatePostsCount++;
-                    log.debug("Skipped duplicate blog post: {}", scrapedPost.getBlogTitle());
-                }
-            }
+            List<BlogScraper.BlogPost> scrapedPosts = result.getBlogPosts();
+            log.info("Found {} blog posts from website: {}{}", scrapedPosts.size(), website.getUrl(),
+                    result.isTruncated() ? " (stopped early)" : "");
             
-            // Update website last scraped timestamp
-            website.setLastScrapedAt(LocalDateTime.now().format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
-            websiteRepository.save(website);
+            PageValidators validators = result.getValidators();
+            Integer newPosts = transactionTemplate.execute(status -> {
+                int saved = saveScrapedPosts(website, scrapedPosts);
+                ScrapeFrequencyPolicy.ScrapeSchedule schedule = frequencyPolicy.afterScrape(website, saved, scrapedAt);
+                websiteRepository.markChanged(website.getId(), scrapedAt,
+                        validators.getEtag(), validators.getLastModified(), validators.getContentHash(),
+                        schedule.getChangeRate(), schedule.getNextScrapeAt());
+                return saved;
+            });
+            profileRegistry.recordLearned(website, result.getContainerSelector());
             
-            log.info("Website {} scraping completed - New posts: {}, Duplicates skipped: {}", 
-                    website.getUrl(), newPostsCount, duplicatePostsCount);
+            return ScrapeOutcome.builder()
+                    .postsFound(scrapedPosts.size())
+                    .newPosts(newPosts != null ? newPosts : 0)
+                    .build();
             
         } catch (Exception e) {
             log.error("Error scraping website {}: {}", website.getUrl(), e.getMessage());
@@ -122,12 +238,105 @@ public class ScrapingSchedulerService {
     }
     
     /**
-     * Manual trigger for scraping (can be called via API if needed)
+     * Streamed listings stop after a few posts the website already has, or once enough new ones are read.
+     * A false positive from the known-post filter can at worst end one scrape a post early.
+     */
+    private BlogScraper.StreamLimit streamLimit(Website website) {
+        if (!streamEnabled) {
+            return null;
+        }
+        
+        return BlogScraper.StreamLimit.builder()
+                .maxNewPosts(streamMaxNewPosts)
+                .knownRun(streamKnownRun)
+                .known(post -> knownPostFilter.mightBeKnown(website.getId(), post.getBlogTitle(), post.getCanonicalLink()))
+                .build();
+    }
+    
+    private void postponeAfterFailure(Website website) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> websiteRepository.postponeScrape(
+                    website.getId(), frequencyPolicy.afterFailure(website, LocalDateTime.now())));
+        } catch (Exception e) {
+            log.warn("Could not postpone website {}: {}", website.getUrl(), e.getMessage());
+        }
+    }
+    
+    /**
+     * At most two existence queries and one batched insert per website, however many posts were
+     * scraped. Posts the known-post filter has never seen skip the queries altogether.
+     * @return number of new posts saved
+     */
+    private int saveScrapedPosts(Website website, List<BlogScraper.BlogPost> scrapedPosts) {
+        // Listings can repeat a post (e.g. featured and latest sections); keep the first
+        Map<String, BlogScraper.BlogPost> postsByTitle = new LinkedHashMap<>();
+        Set<String> batchLinks = new HashSet<>();
+        for (BlogScraper.BlogPost scrapedPost : scrapedPosts) {
+            String link = scrapedPost.getCanonicalLink();
+            if (!postsByTitle.containsKey(scrapedPost.getBlogTitle()) && (link == null || batchLinks.add(link))) {
+                postsByTitle.put(scrapedPost.getBlogTitle(), scrapedPost);
+            }
+        }
+        
+        Set<String> titlesToCheck = new HashSet<>();
+        Set<String> linksToCheck = new HashSet<>();
+        for (BlogScraper.BlogPost scrapedPost : postsByTitle.values()) {
+            if (knownPostFilter.mightBeKnown(website.getId(), scrapedPost.getBlogTitle(), scrapedPost.getCanonicalLink())) {
+                titlesToCheck.add(scrapedPost.getBlogTitle());
+                if (scrapedPost.getCanonicalLink() != null) {
+                    linksToCheck.add(scrapedPost.getCanonicalLink());
+                }
+            }
+        }
+        Set<String> existingTitles = titlesToCheck.isEmpty() ? Set.of()
+                : new HashSet<>(blogPostRepository.findExistingTitles(website.getId(), titlesToCheck));
+        Set<String> existingLinks = linksToCheck.isEmpty() ? Set.of()
+                : new HashSet<>(blogPostRepository.findExistingCanonicalLinks(website.getId(), linksToCheck));
+        log.debug("Website {}: {} of {} scraped posts needed an existence check",
+                website.getUrl(), titlesToCheck.size(), postsByTitle.size());
+        
+        LocalDateTime now = LocalDateTime.now();
+        List<BlogPost> newPosts = postsByTitle.values().stream()
+                .filter(scrapedPost -> !existingTitles.contains(scrapedPost.getBlogTitle())
+                        && !existingLinks.contains(scrapedPost.getCanonicalLink()))
+                .map(scrapedPost -> BlogPost.builder()
+                        .title(scrapedPost.getBlogTitle())
+                        .description(scrapedPost.getExcerpt())
+                        .canonicalLink(scrapedPost.getCanonicalLink())
+                        .publishedAt(scrapedPost.getPublishedAt() != null
+                                ? LocalDateTime.ofInstant(scrapedPost.getPublishedAt(), ZoneOffset.UTC) : null)
+                        .createdBy(website.getId()) // Use website ID as createdBy for system scraped posts
+                        .websiteId(website.getId())
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .build())
+                .toList();
+        
+        // ON CONFLICT covers posts inserted concurrently since the existence check
+        blogPostBatchRepository.insertIgnoringDuplicates(newPosts);
+        for (BlogPost newPost : newPosts) {
+            knownPostFilter.remember(website.getId(), newPost.getTitle(), newPost.getCanonicalLink());
+        }
+        if (!newPosts.isEmpty()) {
+            // Follow-up work such as article fetches reacts to this once the scrape commits
+            eventPublisher.publish(EventTypes.BLOG_POSTS_SCRAPED, website.getId(), BlogPostsScrapedEvent.builder()
+                    .websiteId(website.getId())
+                    .newPosts(newPosts.size())
+                    .scrapedAt(now)
+                    .build());
+        }
+        
+        log.info("Website {} scraping completed - New posts: {}, Duplicates skipped: {}", 
+                website.getUrl(), newPosts.size(), scrapedPosts.size() - newPosts.size());
+        return newPosts.size();
+    }
+    
+    /**
+     * Manual trigger for scraping (can be called via API if needed); scrapes every active website, due or not
      */
-    @Transactional
     public void triggerManualScraping() {
         log.info("Manual scraping triggered");
-        scrapeAllWebsitesScheduled();
+        runCycle(false);
     }
     
     /**
@@ -141,6 +350,9 @@ public class ScrapingSchedulerService {
                 .activeWebsites(activeWebsites.size())
                 .totalBlogPosts(totalBlogPosts)
                 .lastScrapingRun(LocalDateTime.now())
+                .pendingJobs(scrapeJobQueue.countByStatus(ScrapeJobStatus.PENDING))
+                .runningJobs(scrapeJobQueue.countByStatus(ScrapeJobStatus.RUNNING))
+                .failedJobs(scrapeJobQueue.countByStatus(ScrapeJobStatus.FAILED))
                 .build();
     }
     
@@ -153,5 +365,8 @@ public class ScrapingSchedulerService {
         private int activeWebsites;
         private long totalBlogPosts;
         private LocalDateTime lastScrapingRun;
+        private long pendingJobs;
+        private long runningJobs;
+        private long failedJobs;
     }
 }
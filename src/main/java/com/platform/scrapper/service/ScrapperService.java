@@ -1,5 +1,6 @@
 package com.platform.scrapper.service;
 
+import com.platform.scrapper.browser.WebDriverPool;
 import com.platform.scrapper.request.AddWebsiteRequest;
 import com.platform.scrapper.request.CreateBlogPostRequest;
 import com.platform.scrapper.request.UpdateBlogPostRequest;
@@ -41,4 +42,5 @@ public interface ScrapperService {
     long getTotalWebsites();
     long getActiveWebsites();
     long getTotalUsers();
+    WebDriverPool.PoolStatistics getBrowserPoolStatistics();
 }
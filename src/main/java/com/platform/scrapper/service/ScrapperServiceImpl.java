@@ -1,5 +1,6 @@
 package com.platform.scrapper.service;
 
+import com.platform.scrapper.browser.WebDriverPool;
 import com.platform.scrapper.domain.Website;
 import com.platform.scrapper.repository.WebsiteRepository;
 import com.platform.scrapper.request.AddWebsiteRequest;
@@ -26,6 +27,7 @@ import java.util.stream.Collectors;
 public class ScrapperServiceImpl implements ScrapperService {
     
     private final WebsiteRepository websiteRepository;
+    private final WebDriverPool webDriverPool;
     
     @Override
     public List<WebsiteResponse> getAllWebsites() {
@@ -92,6 +94,9 @@ public class ScrapperServiceImpl implements ScrapperService {
                 .createdAt(website.getCreatedAt())
                 // .updatedAt(website.getUpdatedAt())
                 .lastScrapedAt(website.getLastScrapedAt())
+                .lastChangedAt(website.getLastChangedAt())
+                .changeRate(website.getChangeRate())
+                .nextScrapeAt(website.getNextScrapeAt())
                 .build();
     }
 
@@ -190,4 +195,9 @@ public class ScrapperServiceImpl implements ScrapperService {
         // TODO Auto-generated method stub
         throw new UnsupportedOperationException("Unimplemented method 'getTotalUsers'");
     }
+
+    @Override
+    public WebDriverPool.PoolStatistics getBrowserPoolStatistics() {
+        return webDriverPool.getStatistics();
+    }
 }
@@ -12,5 +12,7 @@ public interface UserConnectionRepository extends JpaRepository<UserConnection,
 
     List<UserConnection> findByFollowerId(Long userId);
 
+    long countByUserId(Long userId);
+
  
 }
@@ -9,6 +9,7 @@ import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.platform.post.service.TimelineService;
 import com.platform.user.domain.User;
 import com.platform.user.domain.UserConnection;
 import com.platform.user.domain.UserProfile;
@@ -31,6 +32,7 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final UserProfileRepository userProfileRepository;
     private final UserConnectionRepository userConnectionRepository;
+    private final TimelineService timelineService;
 
 
     
@@ -139,6 +141,7 @@ public List<UserConnectionResponse> getUserConnections(Long userId, boolean foll
                                          .isFollowing(true)
                                        .build();
         userConnectionRepository.save(userConnection);
+        timelineService.backfill(userConnection.getFollowerId(), userConnection.getUserId());
 
         return true;
 
@@ -0,0 +1,2 @@
+-- Composite index backing keyset pagination of the feed on (created_at, id)
+CREATE INDEX idx_post_user_created_at_id ON post(user_id, created_at DESC, id DESC);
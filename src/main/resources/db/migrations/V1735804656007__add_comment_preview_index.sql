@@ -0,0 +1,2 @@
+-- Supports the per-post "latest comments" window used when hydrating a page of posts
+CREATE INDEX idx_comment_post_created_at_id ON comment(post_id, created_at DESC, id DESC);
@@ -0,0 +1,39 @@
+-- Precomputed home timelines (fan-out on write)
+CREATE TABLE home_timeline (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL, -- reader
+    post_id BIGINT NOT NULL,
+    author_id BIGINT NOT NULL,
+    post_created_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE UNIQUE INDEX unique_home_timeline_entry ON home_timeline(user_id, post_id);
+CREATE INDEX idx_home_timeline_user_created_at ON home_timeline(user_id, post_created_at DESC, post_id DESC);
+CREATE INDEX idx_home_timeline_post_id ON home_timeline(post_id);
+
+-- Follower lookups used by fan-out and pull-on-read
+CREATE INDEX idx_user_connection_user_id ON user_connection(user_id);
+CREATE INDEX idx_user_connection_follower_id ON user_connection(follower_id);
+
+-- Posts by widely followed authors are not fanned out and are merged in at read time
+ALTER TABLE post ADD COLUMN fanned_out BOOLEAN NOT NULL DEFAULT TRUE;
+CREATE INDEX idx_post_pull_on_read ON post(user_id, created_at DESC, id DESC) WHERE fanned_out = FALSE;
+
+-- Backfill the newest 500 posts of every reader from the people they follow and themselves
+INSERT INTO home_timeline (user_id, post_id, author_id, post_created_at)
+SELECT ranked.reader_id, ranked.post_id, ranked.author_id, ranked.post_created_at
+FROM (
+    SELECT readers.reader_id, p.id AS post_id, p.user_id AS author_id, p.created_at AS post_created_at,
+           ROW_NUMBER() OVER (PARTITION BY readers.reader_id ORDER BY p.created_at DESC, p.id DESC) AS rn
+    FROM (
+        SELECT follower_id AS reader_id, user_id AS author_id FROM user_connection
+        WHERE follower_id IS NOT NULL AND user_id IS NOT NULL
+        UNION
+        SELECT DISTINCT user_id, user_id FROM post
+    ) readers
+    JOIN post p ON p.user_id = readers.author_id
+) ranked
+WHERE ranked.rn <= 500
+ON CONFLICT (user_id, post_id) DO NOTHING;
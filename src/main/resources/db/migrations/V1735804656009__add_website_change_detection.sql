@@ -0,0 +1,9 @@
+-- last_scraped_at was stored as a 'yyyy-MM-dd HH:mm:ss' string
+ALTER TABLE website ALTER COLUMN last_scraped_at TYPE TIMESTAMP
+    USING to_timestamp(NULLIF(last_scraped_at, ''), 'YYYY-MM-DD HH24:MI:SS')::TIMESTAMP;
+
+-- HTTP validators for conditional GETs and a hash of the parsed listing
+ALTER TABLE website ADD COLUMN last_changed_at TIMESTAMP;
+ALTER TABLE website ADD COLUMN etag VARCHAR(500);
+ALTER TABLE website ADD COLUMN last_modified VARCHAR(100);
+ALTER TABLE website ADD COLUMN content_hash VARCHAR(64);
@@ -0,0 +1,18 @@
+-- blog_post holds both scraped and user-written posts, and created_by is a website id for the
+-- first and a user id for the second, so scraped rows also record their website in website_id
+ALTER TABLE blog_post ADD COLUMN website_id BIGINT;
+
+-- Tag existing rows whose creator can only be a website. Where a title repeats, only the oldest
+-- row is tagged; the others are kept as they are rather than deleted.
+UPDATE blog_post bp
+SET website_id = bp.created_by
+WHERE bp.created_by IN (SELECT id FROM website)
+  AND bp.created_by NOT IN (SELECT id FROM app_user)
+  AND NOT EXISTS (SELECT 1 FROM blog_post older
+                  WHERE older.created_by = bp.created_by
+                    AND older.title = bp.title
+                    AND older.id < bp.id);
+
+-- Lets scraped posts be inserted with ON CONFLICT DO NOTHING; user posts may repeat titles freely
+CREATE UNIQUE INDEX uq_blog_post_website_title ON blog_post(website_id, title)
+    WHERE website_id IS NOT NULL;
@@ -0,0 +1,2 @@
+-- Publish date parsed from the source listing, in UTC
+ALTER TABLE blog_post ADD COLUMN published_at TIMESTAMP;
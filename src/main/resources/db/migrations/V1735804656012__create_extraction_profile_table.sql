@@ -0,0 +1,21 @@
+-- Per-website extraction settings; blank selectors fall back to the built-in plan
+CREATE TABLE extraction_profile (
+    id BIGSERIAL PRIMARY KEY,
+    website_id BIGINT NOT NULL UNIQUE REFERENCES website(id) ON DELETE CASCADE,
+    container_selector VARCHAR(500),
+    title_selector VARCHAR(500),
+    link_selector VARCHAR(500),
+    author_selector VARCHAR(500),
+    date_selector VARCHAR(500),
+    read_time_selector VARCHAR(500),
+    excerpt_selector VARCHAR(500),
+    fetch_mode VARCHAR(20),
+    scroll_depth INTEGER,
+    date_locale VARCHAR(35),
+    learned BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- The registry polls for profiles changed since its last load
+CREATE INDEX idx_extraction_profile_updated_at ON extraction_profile(updated_at);
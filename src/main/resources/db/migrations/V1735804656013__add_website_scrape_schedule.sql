@@ -0,0 +1,6 @@
+-- Adaptive scrape frequency: decayed new-posts-per-hour and the next due time
+ALTER TABLE website ADD COLUMN change_rate DOUBLE PRECISION;
+ALTER TABLE website ADD COLUMN next_scrape_at TIMESTAMP;
+
+-- Due websites are read soonest first
+CREATE INDEX idx_website_next_scrape_at ON website(next_scrape_at) WHERE is_active = TRUE;
@@ -0,0 +1,28 @@
+-- Scrape work shared by all app instances; workers claim rows with FOR UPDATE SKIP LOCKED
+CREATE TABLE scrape_job (
+    id BIGSERIAL PRIMARY KEY,
+    website_id BIGINT NOT NULL REFERENCES website(id) ON DELETE CASCADE,
+    status VARCHAR(20) NOT NULL,
+    due_at TIMESTAMP NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    max_attempts INTEGER NOT NULL DEFAULT 3,
+    leased_by VARCHAR(255),
+    lease_expires_at TIMESTAMP,
+    heartbeat_at TIMESTAMP,
+    started_at TIMESTAMP,
+    finished_at TIMESTAMP,
+    duration_ms BIGINT,
+    posts_found INTEGER,
+    new_posts INTEGER,
+    unchanged BOOLEAN,
+    last_error TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- At most one open job per website, so every node can enqueue with ON CONFLICT DO NOTHING
+CREATE UNIQUE INDEX uq_scrape_job_open_website ON scrape_job(website_id) WHERE status IN ('PENDING', 'RUNNING');
+
+-- Claiming scans pending jobs by due time; lease recovery scans running jobs by expiry
+CREATE INDEX idx_scrape_job_pending_due ON scrape_job(due_at) WHERE status = 'PENDING';
+CREATE INDEX idx_scrape_job_running_lease ON scrape_job(lease_expires_at) WHERE status = 'RUNNING';
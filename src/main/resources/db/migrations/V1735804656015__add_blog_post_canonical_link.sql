@@ -0,0 +1,6 @@
+-- Canonical form of the post's source link (see UrlCanonicalizer); null for posts saved before it existed
+ALTER TABLE blog_post ADD COLUMN canonical_link TEXT;
+
+CREATE UNIQUE INDEX uq_blog_post_website_canonical_link
+    ON blog_post(website_id, canonical_link)
+    WHERE website_id IS NOT NULL AND canonical_link IS NOT NULL;
@@ -0,0 +1,23 @@
+-- Full article bodies fetched after the listing scrape; workers claim rows with FOR UPDATE SKIP LOCKED
+CREATE TABLE article_content (
+    id BIGSERIAL PRIMARY KEY,
+    blog_post_id BIGINT NOT NULL REFERENCES blog_post(id) ON DELETE CASCADE,
+    url TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    leased_by VARCHAR(255),
+    lease_expires_at TIMESTAMP,
+    content BYTEA, -- gzip of the extracted text
+    content_length INTEGER, -- Characters before compression
+    fetched_at TIMESTAMP,
+    last_error TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE UNIQUE INDEX uq_article_content_blog_post ON article_content(blog_post_id);
+
+-- Claiming scans pending rows by due time and fetching rows by lease expiry
+CREATE INDEX idx_article_content_pending ON article_content(next_attempt_at) WHERE status = 'PENDING';
+CREATE INDEX idx_article_content_fetching ON article_content(lease_expires_at) WHERE status = 'FETCHING';
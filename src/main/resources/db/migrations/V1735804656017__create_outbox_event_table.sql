@@ -0,0 +1,18 @@
+-- Transactional outbox: events are written in the same transaction as the change they describe
+-- and relayed to the broker afterwards, so a committed write never loses its event
+CREATE TABLE outbox_event (
+    id BIGSERIAL PRIMARY KEY,
+    event_type VARCHAR(100) NOT NULL,
+    event_key VARCHAR(255) NOT NULL,
+    payload TEXT NOT NULL,
+    published_at TIMESTAMP,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- The relay scans unpublished events in id order; the purge scans published ones by age
+CREATE INDEX idx_outbox_event_unpublished ON outbox_event(id) WHERE published_at IS NULL;
+CREATE INDEX idx_outbox_event_published_at ON outbox_event(published_at) WHERE published_at IS NOT NULL;
@@ -0,0 +1,4 @@
+-- comments_count was never maintained; from now on it is kept up to date by PostCounterBuffer
+UPDATE post p SET comments_count = counts.total
+FROM (SELECT post_id, COUNT(*) AS total FROM comment GROUP BY post_id) counts
+WHERE counts.post_id = p.id AND p.comments_count <> counts.total;
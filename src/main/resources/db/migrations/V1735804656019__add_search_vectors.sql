@@ -0,0 +1,39 @@
+-- Full-text search: each row carries a tsvector kept current by a trigger. Rows that existed
+-- before this migration are filled in batches by V1735804656020, and the GIN indexes are
+-- built concurrently by V1735804656021, so none of the three holds a long table lock.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE OR REPLACE FUNCTION post_search_vector(user_name TEXT, caption TEXT) RETURNS tsvector AS $$
+    SELECT setweight(to_tsvector('simple', coalesce(user_name, '')), 'A')
+        || setweight(to_tsvector('english', coalesce(caption, '')), 'B')
+$$ LANGUAGE SQL IMMUTABLE;
+
+CREATE OR REPLACE FUNCTION blog_post_search_vector(title TEXT, description TEXT) RETURNS tsvector AS $$
+    SELECT setweight(to_tsvector('english', coalesce(title, '')), 'A')
+        || setweight(to_tsvector('english', coalesce(description, '')), 'B')
+$$ LANGUAGE SQL IMMUTABLE;
+
+ALTER TABLE post ADD COLUMN search_vector tsvector;
+ALTER TABLE blog_post ADD COLUMN search_vector tsvector;
+
+CREATE OR REPLACE FUNCTION post_search_vector_update() RETURNS trigger AS $$
+BEGIN
+    NEW.search_vector := post_search_vector(NEW.user_name, NEW.caption);
+    RETURN NEW;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION blog_post_search_vector_update() RETURNS trigger AS $$
+BEGIN
+    NEW.search_vector := blog_post_search_vector(NEW.title, NEW.description);
+    RETURN NEW;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_post_search_vector
+    BEFORE INSERT OR UPDATE OF user_name, caption ON post
+    FOR EACH ROW EXECUTE FUNCTION post_search_vector_update();
+
+CREATE TRIGGER trg_blog_post_search_vector
+    BEFORE INSERT OR UPDATE OF title, description ON blog_post
+    FOR EACH ROW EXECUTE FUNCTION blog_post_search_vector_update();
@@ -0,0 +1,6 @@
+-- Built CONCURRENTLY so writes continue meanwhile; Flyway runs this file outside a transaction
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_post_search_vector ON post USING GIN (search_vector);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_blog_post_search_vector ON blog_post USING GIN (search_vector);
+
+-- Case-insensitive username search, including prefixes, e.g. lower(user_name) LIKE 'ali%'
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_post_user_name_trgm ON post USING GIN (lower(user_name) gin_trgm_ops);
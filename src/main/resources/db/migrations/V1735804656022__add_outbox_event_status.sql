@@ -0,0 +1,8 @@
+-- PENDING until relayed; FAILED once max attempts are used up, kept for inspection as a dead letter
+ALTER TABLE outbox_event ADD COLUMN status VARCHAR(20) NOT NULL DEFAULT 'PENDING';
+UPDATE outbox_event SET status = 'PUBLISHED' WHERE published_at IS NOT NULL;
+
+-- The relay scans pending events in id order and checks each key for an earlier event still backing off
+DROP INDEX IF EXISTS idx_outbox_event_unpublished;
+CREATE INDEX idx_outbox_event_pending ON outbox_event(id) WHERE status = 'PENDING';
+CREATE INDEX idx_outbox_event_pending_key ON outbox_event(event_key, id) WHERE status = 'PENDING';
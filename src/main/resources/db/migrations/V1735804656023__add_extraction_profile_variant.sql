@@ -0,0 +1,2 @@
+-- MEDIUM or GENERIC card mapping; null picks one from the website's host
+ALTER TABLE extraction_profile ADD COLUMN variant VARCHAR(20);
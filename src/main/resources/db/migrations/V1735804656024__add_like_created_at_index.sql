@@ -0,0 +1,2 @@
+-- Lets counter reconciliation find recently liked posts without scanning every like
+CREATE INDEX idx_like_entity_created_at ON like_entity(created_at) WHERE target_type = 'POST';
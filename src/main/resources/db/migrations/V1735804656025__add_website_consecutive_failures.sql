@@ -0,0 +1,2 @@
+-- Failed scrapes in a row; retries of a failing website back off with it
+ALTER TABLE website ADD COLUMN consecutive_failures INTEGER NOT NULL DEFAULT 0;
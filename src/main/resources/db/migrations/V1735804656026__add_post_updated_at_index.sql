@@ -0,0 +1,2 @@
+-- Counter flushes touch updated_at; reconciliation finds recently active posts through it
+CREATE INDEX idx_post_updated_at ON post(updated_at);
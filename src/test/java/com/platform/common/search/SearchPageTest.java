@@ -0,0 +1,41 @@
+package com.platform.common.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchPageTest {
+
+    @Test
+    void blankTermsReadNothing() {
+        assertTrue(SearchPage.of(null, 0, 20, 1000).isEmpty());
+        assertTrue(SearchPage.of("   ", 0, 20, 1000).isEmpty());
+    }
+
+    @Test
+    void termIsStrippedAndCut() {
+        assertEquals("kafka", SearchPage.of("  kafka ", 0, 20, 1000).orElseThrow().getTerm());
+        assertEquals(SearchPage.MAX_TERM_LENGTH, SearchPage.of("x".repeat(500), 0, 20, 1000).orElseThrow().getTerm().length());
+    }
+
+    @Test
+    void pageSizeAndNumberAreClamped() {
+        SearchPage page = SearchPage.of("kafka", -3, 500, 1000).orElseThrow();
+        assertEquals(SearchPage.MAX_PAGE_SIZE, page.getLimit());
+        assertEquals(0, page.getOffset());
+        assertEquals(1, SearchPage.of("kafka", 0, 0, 1000).orElseThrow().getLimit());
+        assertEquals(980, SearchPage.of("kafka", 49, 20, 1000).orElseThrow().getOffset());
+    }
+
+    @Test
+    void pagesPastTheCandidatesReadNothing() {
+        assertTrue(SearchPage.of("kafka", 50, 20, 1000).isEmpty());
+        // page * size overflowed to a negative offset that passed the candidate check
+        Optional<SearchPage> huge = SearchPage.of("kafka", Integer.MAX_VALUE, 50, 1000);
+        assertTrue(huge.isEmpty());
+        assertTrue(SearchPage.of("kafka", 85_899_346, 50, 1000).isEmpty());
+    }
+}
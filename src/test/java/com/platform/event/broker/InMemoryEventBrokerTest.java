@@ -0,0 +1,78 @@
+package com.platform.event.broker;
+
+import com.platform.event.DomainEvent;
+import com.platform.event.DomainEventListener;
+import com.platform.event.service.DomainEventDispatcher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryEventBrokerTest {
+
+    private final List<Long> handled = Collections.synchronizedList(new ArrayList<>());
+    private final Set<Long> failing = new CopyOnWriteArraySet<>();
+    private final InMemoryEventBroker broker = new InMemoryEventBroker(new DomainEventDispatcher(List.of(new DomainEventListener() {
+        @Override
+        public Set<String> eventTypes() {
+            return Set.of("TEST");
+        }
+
+        @Override
+        public void onEvent(DomainEvent event) {
+            if (failing.contains(event.getId())) {
+                throw new IllegalStateException("listener failed on " + event.getId());
+            }
+            handled.add(event.getId());
+        }
+    })), 2, 10);
+
+    @AfterEach
+    void shutdown() {
+        broker.shutdown();
+    }
+
+    @Test
+    void onlyTheFailedEventAndLaterEventsOfItsKeyAreNotAccepted() {
+        failing.add(2L);
+        List<DomainEvent> events = List.of(event(1, "a"), event(2, "a"), event(3, "b"), event(4, "a"), event(5, "b"));
+
+        PublishResult result = broker.publish(events);
+
+        assertEquals(Map.of(2L, "listener failed on 2"), result.getFailed());
+        assertEquals(Set.of(4L), result.getHeldBack());
+        for (long accepted : new long[] {1, 3, 5}) {
+            assertTrue(result.isAccepted(accepted));
+        }
+        assertEquals(Set.of(1L, 3L, 5L), Set.copyOf(handled));
+    }
+
+    @Test
+    void eventsOfOneKeyAreHandledInOrder() {
+        List<DomainEvent> events = new ArrayList<>();
+        for (long id = 1; id <= 200; id++) {
+            events.add(event(id, "post-" + (id % 3)));
+        }
+
+        PublishResult result = broker.publish(events);
+
+        assertTrue(result.getFailed().isEmpty());
+        for (int key = 0; key < 3; key++) {
+            int k = key;
+            List<Long> ofKey = handled.stream().filter(id -> id % 3 == k).toList();
+            assertEquals(ofKey.stream().sorted().toList(), ofKey);
+        }
+    }
+
+    private static DomainEvent event(long id, String key) {
+        return DomainEvent.builder().id(id).type("TEST").key(key).build();
+    }
+}
@@ -0,0 +1,50 @@
+package com.platform.event.broker;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.event.DomainEvent;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KafkaEventBrokerTest {
+
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, String> kafkaTemplate = mock(KafkaTemplate.class);
+    private final KafkaEventBroker broker = new KafkaEventBroker(kafkaTemplate, new ObjectMapper().findAndRegisterModules(),
+            "events", 5);
+
+    @Test
+    void aRecordThatThrowsOnSendFailsAloneAndHoldsBackItsKey() {
+        CompletableFuture<SendResult<String, String>> acked = CompletableFuture.completedFuture(null);
+        when(kafkaTemplate.send(eq("events"), eq("a"), anyString())).thenReturn(acked);
+        when(kafkaTemplate.send(eq("events"), eq("b"), anyString()))
+                .thenThrow(new SerializationException("record too large"));
+
+        PublishResult result = broker.publish(List.of(event(1, "a"), event(2, "b"), event(3, "a"), event(4, "b")));
+
+        assertEquals(Set.of(2L), result.getFailed().keySet());
+        assertTrue(result.getFailed().get(2L).contains("record too large"));
+        assertEquals(Set.of(4L), result.getHeldBack());
+        assertTrue(result.isAccepted(1L));
+        assertTrue(result.isAccepted(3L));
+        verify(kafkaTemplate, times(1)).send(eq("events"), eq("b"), anyString());
+    }
+
+    private static DomainEvent event(long id, String key) {
+        return DomainEvent.builder().id(id).type("TEST").key(key).build();
+    }
+}
@@ -0,0 +1,167 @@
+package com.platform.post.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.platform.post.repository.PostCounterRepository;
+import com.platform.post.service.PostCounterBuffer.Counter;
+
+class PostCounterBufferTest {
+
+    private static final int THREADS = 16;
+    private static final int ADDS_PER_THREAD = 50_000;
+    private static final long[] HOT_POSTS = {1L, 2L, 3L};
+
+    private final RecordingCounterRepository repository = new RecordingCounterRepository();
+    private final PostCounterBuffer buffer = new PostCounterBuffer(repository);
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void concurrentAddsAreAllFlushedWhileFlushesSwapGenerations() throws Exception {
+        ExecutorService writers = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicInteger flushes = new AtomicInteger();
+
+        Thread flusher = new Thread(() -> {
+            while (writing.get()) {
+                buffer.flush();
+                flushes.incrementAndGet();
+            }
+        });
+
+        try {
+            List<Future<?>> runs = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                runs.add(writers.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < ADDS_PER_THREAD; i++) {
+                        long postId = HOT_POSTS[(thread + i) % HOT_POSTS.length];
+                        buffer.add(Counter.LIKES, postId, 1);
+                        if (i % 10 == 0) {
+                            buffer.add(Counter.COMMENTS, postId, 1);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            flusher.start();
+            start.countDown();
+            for (Future<?> run : runs) {
+                run.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            writing.set(false);
+            flusher.join();
+            writers.shutdownNow();
+        }
+        buffer.flushOnShutdown();
+
+        long expectedLikes = (long) THREADS * ADDS_PER_THREAD;
+        long expectedComments = (long) THREADS * ((ADDS_PER_THREAD + 9) / 10);
+        assertEquals(expectedLikes, repository.total(Counter.LIKES));
+        assertEquals(expectedComments, repository.total(Counter.COMMENTS));
+        for (long postId : HOT_POSTS) {
+            assertEquals(0, buffer.pendingDelta(Counter.LIKES, postId));
+        }
+        assertTrue(flushes.get() > 1, "flusher should have swapped generations while writers ran");
+    }
+
+    @Test
+    void addInsideTransactionAppliesOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        buffer.add(Counter.LIKES, 7L, 1);
+
+        assertEquals(0, buffer.pendingDelta(Counter.LIKES, 7L));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1, buffer.pendingDelta(Counter.LIKES, 7L));
+    }
+
+    @Test
+    void failedFlushKeepsChangesForTheNextFlush() {
+        buffer.add(Counter.LIKES, 7L, 3);
+        repository.failNext.set(true);
+
+        buffer.flush();
+        assertEquals(3, buffer.pendingDelta(Counter.LIKES, 7L));
+
+        buffer.flush();
+        assertEquals(3, repository.total(Counter.LIKES));
+        assertEquals(0, buffer.pendingDelta(Counter.LIKES, 7L));
+    }
+
+    @Test
+    void reconcileSkipsPostsWithBufferedChanges() {
+        repository.settledPostIds = List.of(7L, 8L, 9L);
+        buffer.add(Counter.LIKES, 8L, 1);
+
+        buffer.reconcile();
+
+        assertEquals(List.of(7L, 9L), repository.recounted.get("likes_count"));
+        assertEquals(List.of(7L, 8L, 9L), repository.recounted.get("comments_count"));
+    }
+
+    private static class RecordingCounterRepository extends PostCounterRepository {
+
+        private final Map<String, AtomicLong> totals = new ConcurrentHashMap<>();
+        private final AtomicBoolean failNext = new AtomicBoolean();
+        private final Map<String, List<Long>> recounted = new ConcurrentHashMap<>();
+        private List<Long> settledPostIds = List.of();
+
+        RecordingCounterRepository() {
+            super(null);
+        }
+
+        @Override
+        public void addToCounter(String column, Map<Long, Long> deltasByPostId) {
+            if (failNext.getAndSet(false)) {
+                throw new IllegalStateException("database unavailable");
+            }
+            long sum = deltasByPostId.values().stream().mapToLong(Long::longValue).sum();
+            totals.computeIfAbsent(column, c -> new AtomicLong()).addAndGet(sum);
+        }
+
+        @Override
+        public List<Long> findSettledPostIds(String column, LocalDateTime since, LocalDateTime settledBefore, int limit) {
+            return settledPostIds;
+        }
+
+        @Override
+        public int recount(String column, Collection<Long> postIds) {
+            recounted.put(column, List.copyOf(postIds));
+            return 0;
+        }
+
+        long total(Counter counter) {
+            AtomicLong total = totals.get(counter == Counter.LIKES ? "likes_count" : "comments_count");
+            return total != null ? total.get() : 0;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.platform.post.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.platform.post.domain.Post;
+import com.platform.post.repository.PostRepository;
+import com.platform.post.repository.TimelineEntryRepository;
+import com.platform.user.repository.UserConnectionRepository;
+
+class TimelineServiceImplTest {
+
+    private final TimelineEntryRepository timelineEntryRepository = mock(TimelineEntryRepository.class);
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final TimelineServiceImpl timelineService = new TimelineServiceImpl(timelineEntryRepository, postRepository,
+            mock(UserConnectionRepository.class));
+
+    TimelineServiceImplTest() {
+        ReflectionTestUtils.setField(timelineService, "timelineCapacity", 500);
+    }
+
+    @Test
+    void offsetsPastTheCapacityReadNothing() {
+        assertTrue(timelineService.getTimelinePage(1L, null, 500, 21).isEmpty());
+        // Integer.MAX_VALUE pages of 50 used to wrap the window size negative
+        assertTrue(timelineService.getTimelinePage(1L, null, (long) Integer.MAX_VALUE * 50, 51).isEmpty());
+        verifyNoInteractions(timelineEntryRepository, postRepository);
+    }
+
+    @Test
+    void offsetPagesAreSlicedFromTheMergedPrefix() {
+        List<Post> posts = new ArrayList<>();
+        for (long id = 30; id > 0; id--) {
+            posts.add(post(id));
+        }
+        when(timelineEntryRepository.findTimelinePage(eq(1L), any(Pageable.class))).thenReturn(posts);
+        when(postRepository.findPullOnReadPage(eq(1L), any(Pageable.class))).thenReturn(List.of());
+
+        List<Post> page = timelineService.getTimelinePage(1L, null, 20, 21);
+
+        assertEquals(List.of(10L, 9L, 8L, 7L, 6L, 5L, 4L, 3L, 2L, 1L), page.stream().map(Post::getId).toList());
+    }
+
+    @Test
+    void cursorPagesContinueOnPostPastTheTrimmedTimeline() {
+        // The timeline ends at post 12; posts 11 and older were trimmed off it
+        when(timelineEntryRepository.findTimelinePageAfter(eq(1L), any(), any(), any(Pageable.class)))
+                .thenReturn(List.of(post(13), post(12)));
+        when(postRepository.findPullOnReadPageAfter(eq(1L), any(), any(), any(Pageable.class))).thenReturn(List.of());
+        when(postRepository.findFannedOutPageAfter(eq(1L), eq(post(12).getCreatedAt()), eq(12L), any(Pageable.class)))
+                .thenReturn(List.of(post(11), post(10), post(9)));
+
+        List<Post> page = timelineService.getTimelinePage(1L, KeysetCursor.of(post(14).getCreatedAt(), 14L), 0, 5);
+
+        assertEquals(List.of(13L, 12L, 11L, 10L, 9L), page.stream().map(Post::getId).toList());
+    }
+
+    private static Post post(long id) {
+        Post post = new Post();
+        post.setId(id);
+        post.setCreatedAt(LocalDateTime.of(2026, 1, 1, 0, 0).plusMinutes(id));
+        return post;
+    }
+}
@@ -0,0 +1,76 @@
+package com.platform.scrapper.extract;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+class PublishDateNormalizerTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-10T12:00:00Z");
+
+    private static Instant normalize(String text) {
+        return PublishDateNormalizer.normalize(text, Locale.ENGLISH, NOW);
+    }
+
+    @Test
+    void interfaceTextIsNotADate() {
+        assertNull(normalize("Sign up now"));
+        assertNull(normalize("Start writing today"));
+        assertNull(normalize("Decision 5"));
+        assertNull(normalize("Marching 12 miles"));
+        assertNull(normalize("Junebug 3"));
+        assertNull(normalize("5 min read"));
+        assertFalse(PublishDateNormalizer.looksLikeDate("Sign up now", Locale.ENGLISH));
+        assertFalse(PublishDateNormalizer.looksLikeDate("Decision 5", Locale.ENGLISH));
+    }
+
+    @Test
+    void wholeRelativePhrasesAreDates() {
+        assertEquals(NOW, normalize("just now"));
+        assertEquals(NOW, normalize("Now"));
+        assertEquals(NOW, normalize("Today"));
+        assertEquals(NOW.minus(Duration.ofDays(1)), normalize("Yesterday"));
+    }
+
+    @Test
+    void agoAndBareAmountsAreRelativeToNow() {
+        assertEquals(NOW.minus(Duration.ofHours(20)), normalize("Added 20h ago"));
+        assertEquals(NOW.minus(Duration.ofDays(3)), normalize("3 days ago"));
+        assertEquals(NOW.minus(Duration.ofHours(5)), normalize("5h"));
+        assertNull(normalize("Reply in 5 min please"));
+        assertEquals(NOW.minus(Duration.ofDays(4)), normalize("4d"));
+        assertNull(normalize("5 min"));
+        assertNull(normalize("12 mins"));
+    }
+
+    @Test
+    void shortAndFullMonthNamesAreDates() {
+        assertEquals(Instant.parse("2025-07-22T00:00:00Z"), normalize("Jul 22, 2025"));
+        assertEquals(Instant.parse("2024-12-05T00:00:00Z"), normalize("December 5, 2024"));
+        assertEquals(Instant.parse("2025-07-22T00:00:00Z"), normalize("22 Jul 2025"));
+        assertEquals(Instant.parse("2026-03-01T00:00:00Z"), normalize("Mar 1"));
+        // A year-less date still ahead of now belongs to last year
+        assertEquals(Instant.parse("2025-12-05T00:00:00Z"), normalize("Dec 5"));
+    }
+
+    @Test
+    void isoDatesKeepTheirOffset() {
+        assertEquals(Instant.parse("2025-07-22T10:15:00Z"), normalize("2025-07-22T10:15:00Z"));
+        assertEquals(Instant.parse("2025-07-22T08:15:00Z"), normalize("2025-07-22T10:15:00+02:00"));
+        assertEquals(Instant.parse("2025-07-22T00:00:00Z"), normalize("2025-07-22"));
+    }
+
+    @Test
+    void monthNamesFollowTheLocale() {
+        assertEquals(Instant.parse("2025-01-05T00:00:00Z"),
+                PublishDateNormalizer.normalize("5 janv. 2025", Locale.FRENCH, NOW));
+        assertEquals(Instant.parse("2025-01-05T00:00:00Z"),
+                PublishDateNormalizer.normalize("5 janvier 2025", Locale.FRENCH, NOW));
+    }
+}
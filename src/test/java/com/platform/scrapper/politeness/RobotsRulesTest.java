@@ -0,0 +1,76 @@
+package com.platform.scrapper.politeness;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RobotsRulesTest {
+
+    private static final String ROBOTS = """
+            User-agent: *
+            Disallow: /
+            Crawl-delay: 10
+
+            # Scraper group
+            User-agent: Googlebot
+            User-agent: BlogScraper
+            Disallow: /private
+            Allow: /private/public
+            Crawl-delay: 1.5
+            """;
+
+    @Test
+    void theScrapersOwnGroupWinsOverTheWildcard() {
+        RobotsRules rules = RobotsRules.parse(ROBOTS, "BlogScraper/1.0");
+
+        assertTrue(rules.isAllowed("/posts/1"));
+        assertEquals(Duration.ofMillis(1500), rules.getCrawlDelay());
+    }
+
+    @Test
+    void otherAgentsFallBackToTheWildcardGroup() {
+        RobotsRules rules = RobotsRules.parse(ROBOTS, "OtherBot");
+
+        assertFalse(rules.isAllowed("/posts/1"));
+        assertEquals(Duration.ofSeconds(10), rules.getCrawlDelay());
+        assertTrue(RobotsRules.parse("User-agent: Googlebot\nDisallow: /\n", "BlogScraper").isAllowed("/"));
+    }
+
+    @Test
+    void theLongestMatchWinsAndAllowWinsTies() {
+        RobotsRules rules = RobotsRules.parse(ROBOTS, "BlogScraper");
+        assertFalse(rules.isAllowed("/private/notes"));
+        assertTrue(rules.isAllowed("/private/public/notes"));
+
+        RobotsRules tie = RobotsRules.parse("User-agent: *\nDisallow: /page\nAllow: /page\n", "BlogScraper");
+        assertTrue(tie.isAllowed("/page"));
+    }
+
+    @Test
+    void wildcardsAndEndAnchorsMatch() {
+        RobotsRules rules = RobotsRules.parse("""
+                User-agent: *
+                Disallow: /*.pdf$
+                Disallow: /tag/*/feed
+                """, "BlogScraper");
+
+        assertFalse(rules.isAllowed("/files/report.pdf"));
+        assertTrue(rules.isAllowed("/files/report.pdf?download=1"));
+        assertFalse(rules.isAllowed("/tag/java/feed"));
+        assertFalse(rules.isAllowed("/tag/java/feed/rss"));
+        assertTrue(rules.isAllowed("/tag/java"));
+    }
+
+    @Test
+    void unusableCrawlDelaysAreIgnored() {
+        assertNull(RobotsRules.parse("User-agent: *\nCrawl-delay: Infinity\n", "BlogScraper").getCrawlDelay());
+        assertNull(RobotsRules.parse("User-agent: *\nCrawl-delay: NaN\n", "BlogScraper").getCrawlDelay());
+        assertNull(RobotsRules.parse("User-agent: *\nCrawl-delay: -5\n", "BlogScraper").getCrawlDelay());
+        assertNull(RobotsRules.parse("User-agent: *\nCrawl-delay: soon\n", "BlogScraper").getCrawlDelay());
+    }
+}
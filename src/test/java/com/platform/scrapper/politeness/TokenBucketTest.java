@@ -0,0 +1,47 @@
+package com.platform.scrapper.politeness;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTest {
+
+    // Long enough that no slot frees up while a test runs
+    private static final long INTERVAL = TimeUnit.HOURS.toNanos(1);
+
+    @Test
+    void theBurstGoesOutBackToBackThenRequestsWaitAnInterval() {
+        TokenBucket bucket = new TokenBucket();
+
+        assertEquals(0, bucket.reserve(INTERVAL, 2));
+        assertEquals(0, bucket.reserve(INTERVAL, 2));
+        long wait = bucket.reserve(INTERVAL, 2);
+        assertTrue(wait > INTERVAL / 2 && wait <= INTERVAL, "waited " + wait);
+        long secondWait = bucket.reserve(INTERVAL, 2);
+        assertTrue(secondWait > INTERVAL + INTERVAL / 2, "waited " + secondWait);
+    }
+
+    @Test
+    void tryReserveLeavesTheSpareSlotsForReserve() {
+        TokenBucket bucket = new TokenBucket();
+
+        assertTrue(bucket.tryReserve(INTERVAL, 2, 1));
+        assertFalse(bucket.tryReserve(INTERVAL, 2, 1));
+        // The spare slot is still there for a blocking reserve
+        assertEquals(0, bucket.reserve(INTERVAL, 2));
+        assertTrue(bucket.reserve(INTERVAL, 2) > 0);
+    }
+
+    @Test
+    void tryReserveFailsOnceTheBurstIsSpent() {
+        TokenBucket bucket = new TokenBucket();
+        bucket.reserve(INTERVAL, 3);
+        bucket.reserve(INTERVAL, 3);
+
+        assertFalse(bucket.tryReserve(INTERVAL, 3, 1));
+    }
+}
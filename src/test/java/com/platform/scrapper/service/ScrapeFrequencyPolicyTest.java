@@ -0,0 +1,50 @@
+package com.platform.scrapper.service;
+
+import com.platform.scrapper.domain.Website;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ScrapeFrequencyPolicyTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 10, 12, 0);
+
+    private final ScrapeFrequencyPolicy policy = new ScrapeFrequencyPolicy();
+
+    @Test
+    void newSitesAreRescrapedAtTheNewSiteInterval() {
+        Website website = Website.builder().build();
+
+        ScrapeFrequencyPolicy.ScrapeSchedule schedule = policy.afterScrape(website, 40, NOW);
+
+        assertEquals(0.0, schedule.getChangeRate());
+        assertEquals(NOW.plusMinutes(60), schedule.getNextScrapeAt());
+    }
+
+    @Test
+    void measuredRatesSetTheInterval() {
+        Website website = Website.builder().changeRate(0.5).lastScrapedAt(NOW.minusHours(2)).build();
+
+        ScrapeFrequencyPolicy.ScrapeSchedule schedule = policy.afterScrape(website, 1, NOW);
+
+        // 0.5 posts per hour observed and remembered: one post every two hours
+        assertEquals(0.5, schedule.getChangeRate(), 1e-9);
+        assertEquals(NOW.plusHours(2), schedule.getNextScrapeAt());
+    }
+
+    @Test
+    void failuresInARowBackOffUpToTheMaxInterval() {
+        assertEquals(NOW.plusMinutes(5), policy.afterFailure(failing(0), NOW));
+        assertEquals(NOW.plusMinutes(10), policy.afterFailure(failing(1), NOW));
+        assertEquals(NOW.plusMinutes(40), policy.afterFailure(failing(3), NOW));
+        assertEquals(NOW.plus(Duration.ofDays(1)), policy.afterFailure(failing(12), NOW));
+        assertEquals(NOW.plus(Duration.ofDays(1)), policy.afterFailure(failing(500), NOW));
+    }
+
+    private static Website failing(int consecutiveFailures) {
+        return Website.builder().consecutiveFailures(consecutiveFailures).build();
+    }
+}